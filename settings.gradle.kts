@@ -1 +1,6 @@
+plugins {
+    // Downloads the Java 21 toolchain on machines that only have an older JDK installed.
+    id("org.gradle.toolchains.foojay-resolver-convention") version "0.9.0"
+}
+
 rootProject.name = "support-organizations-app"
@@ -0,0 +1,24 @@
+package com.example.supportorganizationsapp.config;
+
+import com.example.supportorganizationsapp.repository.ChatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatActivityBackfill implements ApplicationRunner {
+
+    private final ChatRepository chatRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int updated = chatRepository.backfillLastMessage();
+        if (updated > 0) {
+            log.info("Backfilled last message for {} chats", updated);
+        }
+    }
+}
@@ -4,19 +4,25 @@ import com.example.supportorganizationsapp.enums.RoleEnum;
 import com.example.supportorganizationsapp.enums.StatusEnum;
 import com.example.supportorganizationsapp.models.Application;
 import com.example.supportorganizationsapp.models.Chat;
+import com.example.supportorganizationsapp.models.ChatReadState;
 import com.example.supportorganizationsapp.models.Message;
+import com.example.supportorganizationsapp.models.Station;
 import com.example.supportorganizationsapp.models.User;
 import com.example.supportorganizationsapp.repository.ApplicationRepository;
+import com.example.supportorganizationsapp.repository.ChatReadStateRepository;
 import com.example.supportorganizationsapp.repository.ChatRepository;
 import com.example.supportorganizationsapp.repository.MessageRepository;
 import com.example.supportorganizationsapp.repository.UserRepository;
-import jakarta.transaction.Transactional;
+import com.example.supportorganizationsapp.service.StationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -28,76 +34,94 @@ public class DataInitializer {
     private final ApplicationRepository applicationRepository;
     private final ChatRepository chatRepository;
     private final MessageRepository messageRepository;
+    private final ChatReadStateRepository chatReadStateRepository;
+    private final StationService stationService;
+    private final TransactionTemplate transactionTemplate;
 
     @Bean
-    @Transactional
     public CommandLineRunner initData() {
-        return args -> {
-            User passenger = User.builder()
-                    .email("passenger@example.com")
-                    .phoneNumber("+79001112233")
-                    .firstName("Иван")
-                    .lastName("Иванов")
-                    .password("pass123")
-                    .roleEnum(RoleEnum.PASSENGER)
-                    .build();
-
-            User companion = User.builder()
-                    .email("companion@example.com")
-                    .phoneNumber("+79004445566")
-                    .firstName("Петр")
-                    .lastName("Петров")
-                    .password("comp456")
-                    .roleEnum(RoleEnum.COMPANION)
-                    .build();
-
-            userRepository.saveAll(List.of(passenger, companion));
-
-            Application app1 = Application.builder()
-                    .date("2025-05-20")
-                    .time("10:00")
-                    .departureStation("Новослабодская")
-                    .destinationStation("Менделеевская")
-                    .comment("Просьба приехать вовремя")
-                    .status(StatusEnum.NEW)
-                    .passenger(passenger)
-                    .build();
-
-            Application app2 = Application.builder()
-                    .date("2025-05-22")
-                    .time("14:30")
-                    .departureStation("Новослабодская")
-                    .destinationStation("Проспект мира")
-                    .comment("Нужна помощь с коляской")
-                    .status(StatusEnum.INPROGRESS)
-                    .passenger(passenger)
-                    .companion(companion)
-                    .build();
-
-            applicationRepository.saveAll(List.of(app1, app2));
-
-            Chat chat = Chat.builder()
-                    .chatName("Сопровождение Иванова")
-                    .isGroup(false)
-                    .admins(Set.of(companion))
-                    .users(Set.of(passenger, companion))
-                    .createdBy(companion)
-                    .build();
-
-            chatRepository.save(chat);
-
-            Message message = Message.builder()
-                    .content("Здравствуйте! Я вас буду сопровождать.")
-                    .timeStamp(LocalDateTime.now())
-                    .user(companion)
-                    .chat(chat)
-                    .readBy(Set.of(passenger.getId()))
-                    .build();
-
-            messageRepository.save(message);
-
-            chat.setMessages(List.of(message));
-            chatRepository.save(chat);
-        };
+        return args -> transactionTemplate.executeWithoutResult(status -> seed());
+    }
+
+    private void seed() {
+        Station novoslobodskaya = stationService.resolveStation("Новослабодская");
+        Station mendeleevskaya = stationService.resolveStation("Менделеевская");
+        Station prospektMira = stationService.resolveStation("Проспект мира");
+
+        User passenger = User.builder()
+                .email("passenger@example.com")
+                .phoneNumber("+79001112233")
+                .firstName("Иван")
+                .lastName("Иванов")
+                .password("pass123")
+                .roleEnum(RoleEnum.PASSENGER)
+                .build();
+
+        User companion = User.builder()
+                .email("companion@example.com")
+                .phoneNumber("+79004445566")
+                .firstName("Петр")
+                .lastName("Петров")
+                .password("comp456")
+                .roleEnum(RoleEnum.COMPANION)
+                .build();
+
+        userRepository.saveAll(List.of(passenger, companion));
+
+        Application app1 = Application.builder()
+                .scheduledAt(LocalDateTime.of(2025, 5, 20, 10, 0))
+                .departureStation(novoslobodskaya)
+                .destinationStation(mendeleevskaya)
+                .comment("Просьба приехать вовремя")
+                .status(StatusEnum.NEW)
+                .passenger(passenger)
+                .build();
+
+        Application app2 = Application.builder()
+                .scheduledAt(LocalDateTime.of(2025, 5, 22, 14, 30))
+                .departureStation(novoslobodskaya)
+                .destinationStation(prospektMira)
+                .comment("Нужна помощь с коляской")
+                .status(StatusEnum.INPROGRESS)
+                .passenger(passenger)
+                .companion(companion)
+                .build();
+
+        applicationRepository.saveAll(List.of(app1, app2));
+
+        Chat chat = Chat.builder()
+                .chatName("Сопровождение Иванова")
+                .isGroup(false)
+                .admins(new HashSet<>(Set.of(companion)))
+                .users(new HashSet<>(Set.of(passenger, companion)))
+                .createdBy(companion)
+                .build();
+
+        chatRepository.save(chat);
+
+        Message message = Message.builder()
+                .content("Здравствуйте! Я вас буду сопровождать.")
+                .timeStamp(LocalDateTime.now())
+                .user(companion)
+                .chat(chat)
+                .build();
+
+        messageRepository.save(message);
+
+        chat.setMessages(new ArrayList<>(List.of(message)));
+        chat.setLastMessageId(message.getId());
+        chat.setLastActivityAt(message.getTimeStamp());
+
+        chatReadStateRepository.saveAll(List.of(
+                ChatReadState.builder()
+                        .chat(chat)
+                        .user(passenger)
+                        .lastReadMessageId(message.getId())
+                        .build(),
+                ChatReadState.builder()
+                        .chat(chat)
+                        .user(companion)
+                        .lastReadMessageId(message.getId())
+                        .build()));
     }
 }
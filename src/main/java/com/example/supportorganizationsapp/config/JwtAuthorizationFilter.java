@@ -1,5 +1,8 @@
 package com.example.supportorganizationsapp.config;
 
+import com.example.supportorganizationsapp.models.User;
+import com.example.supportorganizationsapp.service.UserService;
+import com.example.supportorganizationsapp.utils.UserPrincipal;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
@@ -27,6 +30,7 @@ import java.util.Map;
 public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
     private final TokenProvider tokenProvider;
+    private final UserService userService;
     private final ObjectMapper objectMapper;
 
     @Override
@@ -44,7 +48,9 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
             String email = String.valueOf(claims.get(JwtConstants.EMAIL));
             String authorities = String.valueOf(claims.get(JwtConstants.AUTHORITIES));
             List<GrantedAuthority> auths = AuthorityUtils.commaSeparatedStringToAuthorityList(authorities);
-            Authentication authentication = new UsernamePasswordAuthenticationToken(email, null, auths);
+            User user = userService.findProfileByEmail(email);
+            UserPrincipal principal = new UserPrincipal(user.getId(), user.getEmail());
+            Authentication authentication = new UsernamePasswordAuthenticationToken(principal, null, auths);
             SecurityContextHolder.getContext().setAuthentication(authentication);
         } catch (Exception e) {
             Map<String, Object> errorDetails = new HashMap<>();
@@ -53,6 +59,7 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
             response.setStatus(HttpStatus.FORBIDDEN.value());
             response.setContentType(MediaType.APPLICATION_JSON_VALUE);
             objectMapper.writeValue(response.getWriter(), errorDetails);
+            return;
         }
 
         filterChain.doFilter(request, response);
@@ -0,0 +1,70 @@
+package com.example.supportorganizationsapp.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+
+@Configuration
+public class PasswordHashingConfig {
+
+    private final MeterRegistry meterRegistry;
+    private final int poolSize;
+    private final int queueCapacity;
+    private final Duration waitTimeout;
+    private final Duration retryAfter;
+
+    private ThreadPoolTaskExecutor hashingExecutor;
+
+    public PasswordHashingConfig(MeterRegistry meterRegistry,
+                                 @Value("${auth.password-hashing.pool-size:4}") int poolSize,
+                                 @Value("${auth.password-hashing.queue-capacity:64}") int queueCapacity,
+                                 @Value("${auth.password-hashing.wait-timeout:PT5S}") Duration waitTimeout,
+                                 @Value("${auth.password-hashing.retry-after:PT1S}") Duration retryAfter) {
+        this.meterRegistry = meterRegistry;
+        this.poolSize = poolSize;
+        this.queueCapacity = queueCapacity;
+        this.waitTimeout = waitTimeout;
+        this.retryAfter = retryAfter;
+    }
+
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        // BCrypt is pure CPU work, so a fixed pool about the size of the machine caps how many request threads
+        // it can occupy; once the queue is full further sign-ins are rejected instead of piling up.
+        hashingExecutor = new ThreadPoolTaskExecutor();
+        hashingExecutor.setThreadNamePrefix("password-hashing-");
+        hashingExecutor.setCorePoolSize(poolSize);
+        hashingExecutor.setMaxPoolSize(poolSize);
+        hashingExecutor.setQueueCapacity(queueCapacity);
+        hashingExecutor.setDaemon(true);
+        hashingExecutor.initialize();
+
+        Gauge.builder("auth.password.hashing.queue.size", hashingExecutor, ThreadPoolTaskExecutor::getQueueSize)
+                .description("Password hashes waiting for a hashing thread")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hashing.active.threads", hashingExecutor, ThreadPoolTaskExecutor::getActiveCount)
+                .register(meterRegistry);
+        Counter rejected = Counter.builder("auth.password.hashing.rejected")
+                .description("Password hashes refused because the hashing pool was saturated")
+                .register(meterRegistry);
+
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), hashingExecutor.getThreadPoolExecutor(),
+                waitTimeout, retryAfter, rejected);
+    }
+
+    @PreDestroy
+    public void shutdownHashingExecutor() {
+        if (hashingExecutor != null) {
+            hashingExecutor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.supportorganizationsapp.config;
+
+import io.micrometer.core.instrument.Counter;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator.OverflowStrategy;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+class SlowConsumerWebSocketHandler extends SubProtocolWebSocketHandler {
+
+    private final OverflowStrategy overflowStrategy;
+    private final Counter droppedSessions;
+
+    SlowConsumerWebSocketHandler(MessageChannel clientInboundChannel, SubscribableChannel clientOutboundChannel,
+                                 OverflowStrategy overflowStrategy, Counter droppedSessions) {
+        super(clientInboundChannel, clientOutboundChannel);
+        this.overflowStrategy = overflowStrategy;
+        this.droppedSessions = droppedSessions;
+    }
+
+    @Override
+    protected WebSocketSession decorateSession(WebSocketSession session) {
+        // This is the only buffer in front of the client, so with DROP a slow client loses its oldest
+        // frames instead of being disconnected.
+        return new ConcurrentWebSocketSessionDecorator(session, getSendTimeLimit(), getSendBufferSizeLimit(),
+                overflowStrategy);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+        if (closeStatus.equalsCode(CloseStatus.SESSION_NOT_RELIABLE)) {
+            droppedSessions.increment();
+        }
+        super.afterConnectionClosed(session, closeStatus);
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.supportorganizationsapp.config;
+
+import com.example.supportorganizationsapp.models.User;
+import com.example.supportorganizationsapp.repository.ChatRepository;
+import com.example.supportorganizationsapp.service.UserService;
+import com.example.supportorganizationsapp.utils.UserPrincipal;
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+public class StompAuthorizationInterceptor implements ChannelInterceptor {
+
+    public static final String CHAT_TOPIC_PREFIX = "/topic/chats/";
+    public static final String USER_QUEUE_PREFIX = "/user/queue/";
+    public static final String APP_DESTINATION_PREFIX = "/app/";
+
+    private final TokenProvider tokenProvider;
+    private final UserService userService;
+    private final ChatRepository chatRepository;
+    private final int maxSessions;
+    private final Set<String> sessions = ConcurrentHashMap.newKeySet();
+
+    public StompAuthorizationInterceptor(TokenProvider tokenProvider,
+                                         UserService userService,
+                                         ChatRepository chatRepository,
+                                         @Value("${websocket.max-sessions:1000}") int maxSessions) {
+        this.tokenProvider = tokenProvider;
+        this.userService = userService;
+        this.chatRepository = chatRepository;
+        this.maxSessions = maxSessions;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        switch (accessor.getCommand()) {
+            case CONNECT -> connect(accessor);
+            case SUBSCRIBE -> authorizeSubscription(principalOf(accessor), accessor.getDestination());
+            case SEND -> authorizeSend(principalOf(accessor), accessor.getDestination());
+            default -> {
+            }
+        }
+        return message;
+    }
+
+    @EventListener
+    public void onSessionDisconnect(SessionDisconnectEvent event) {
+        sessions.remove(event.getSessionId());
+    }
+
+    private void connect(StompHeaderAccessor accessor) {
+        Authentication authentication = authenticate(accessor.getFirstNativeHeader(JwtConstants.TOKEN_HEADER));
+        // In relay mode each session holds its own broker connection, so sessions past the cap are refused here
+        // with an ERROR frame instead of waiting on the broker.
+        String sessionId = accessor.getSessionId();
+        if (sessionId != null && sessions.add(sessionId) && sessions.size() > maxSessions) {
+            sessions.remove(sessionId);
+            log.warn("Refused STOMP connect: {} sessions already open", maxSessions);
+            throw new MessageDeliveryException("Too many WebSocket sessions");
+        }
+        accessor.setUser(authentication);
+    }
+
+    private Authentication authenticate(String jwt) {
+        if (jwt == null) {
+            throw new BadCredentialsException("Missing " + JwtConstants.TOKEN_HEADER + " header");
+        }
+        try {
+            Claims claims = tokenProvider.getClaimsFromToken(jwt);
+            String email = String.valueOf(claims.get(JwtConstants.EMAIL));
+            String authorities = String.valueOf(claims.get(JwtConstants.AUTHORITIES));
+            List<GrantedAuthority> auths = AuthorityUtils.commaSeparatedStringToAuthorityList(authorities);
+            User user = userService.findProfileByEmail(email);
+            return new UsernamePasswordAuthenticationToken(new UserPrincipal(user.getId(), user.getEmail()), null, auths);
+        } catch (Exception e) {
+            log.debug("Rejected STOMP connect: {}", e.getMessage());
+            throw new BadCredentialsException("Invalid token");
+        }
+    }
+
+    private UserPrincipal principalOf(StompHeaderAccessor accessor) {
+        if (accessor.getUser() instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal;
+        }
+        throw new AccessDeniedException("Not authenticated");
+    }
+
+    private void authorizeSubscription(UserPrincipal principal, String destination) {
+        if (destination == null) {
+            throw new AccessDeniedException("Destination is required");
+        }
+        if (destination.startsWith(USER_QUEUE_PREFIX)) {
+            return;
+        }
+        if (destination.startsWith(CHAT_TOPIC_PREFIX)) {
+            Long chatId = parseChatId(destination.substring(CHAT_TOPIC_PREFIX.length()));
+            if (chatId != null && chatRepository.existsByIdAndUsers_Id(chatId, principal.id())) {
+                return;
+            }
+        }
+        throw new AccessDeniedException("Subscription to " + destination + " is not allowed");
+    }
+
+    private void authorizeSend(UserPrincipal principal, String destination) {
+        // Broker destinations are fed only by the server; a client frame sent there would skip
+        // persistence and the membership check in the @MessageMapping handlers.
+        if (destination == null || !destination.startsWith(APP_DESTINATION_PREFIX)) {
+            log.debug("Rejected STOMP send from user {} to {}", principal.id(), destination);
+            throw new AccessDeniedException("Sending to " + destination + " is not allowed");
+        }
+    }
+
+    private static Long parseChatId(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
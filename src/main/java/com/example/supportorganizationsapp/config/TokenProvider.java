@@ -1,30 +1,50 @@
 package com.example.supportorganizationsapp.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 public class TokenProvider {
 
+    private static final long VERIFIED_TOKEN_CACHE_MAX_SIZE = 50_000;
+    private static final long VERIFIED_TOKEN_MAX_TTL_MS = JwtConstants.ACCESS_TOKEN_VALIDITY;
+
     private final SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(JwtConstants.SECRET_KEY));
     private final JwtParser jwtParser;
+    private final Cache<String, Claims> verifiedTokens;
 
-    public TokenProvider() {
+    public TokenProvider(MeterRegistry meterRegistry) {
         this.jwtParser = Jwts.parser()
                 .verifyWith(key)
                 .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(VERIFIED_TOKEN_CACHE_MAX_SIZE)
+                .expireAfter(new ClaimsExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.verifiedTokens");
     }
 
     public String generateToken(Authentication authentication, long validity) {
@@ -47,15 +67,56 @@ public class TokenProvider {
         if (jwt.startsWith(JwtConstants.TOKEN_PREFIX)) {
             jwt = jwt.substring(JwtConstants.TOKEN_PREFIX.length());
         }
-        return jwtParser.parseSignedClaims(jwt).getPayload();
+        return parseVerified(jwt);
     }
 
     public Claims validateToken(String token) {
         try {
-            return jwtParser.parseSignedClaims(token).getPayload();
+            return parseVerified(token);
         } catch (Exception e) {
             log.error("Invalid token: {}", e.getMessage());
             throw e;
         }
     }
+
+    private Claims parseVerified(String token) {
+        String cacheKey = sha256(token);
+        Claims claims = verifiedTokens.getIfPresent(cacheKey);
+        if (claims == null) {
+            claims = jwtParser.parseSignedClaims(token).getPayload();
+            verifiedTokens.put(cacheKey, claims);
+        }
+        return claims;
+    }
+
+    private static String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static class ClaimsExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long ttl = VERIFIED_TOKEN_MAX_TTL_MS;
+            if (claims.getExpiration() != null) {
+                ttl = Math.min(ttl, claims.getExpiration().getTime() - System.currentTimeMillis());
+            }
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(ttl, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -0,0 +1,41 @@
+package com.example.supportorganizationsapp.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.config.annotation.DelegatingWebSocketMessageBrokerConfiguration;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator.OverflowStrategy;
+
+// Takes the place of @EnableWebSocketMessageBroker so the per-session send buffer can use the configured overflow strategy.
+@Configuration
+public class WebSocketBrokerConfig extends DelegatingWebSocketMessageBrokerConfiguration {
+
+    private final MeterRegistry meterRegistry;
+    private final OverflowStrategy overflowStrategy;
+
+    public WebSocketBrokerConfig(MeterRegistry meterRegistry,
+                                 @Value("${websocket.transport.overflow-strategy:terminate}") String overflowStrategy) {
+        this.meterRegistry = meterRegistry;
+        this.overflowStrategy = OverflowStrategy.valueOf(overflowStrategy.toUpperCase());
+    }
+
+    @Bean
+    @Override
+    public WebSocketHandler subProtocolWebSocketHandler(
+            @Qualifier("clientInboundChannel") AbstractSubscribableChannel clientInboundChannel,
+            @Qualifier("clientOutboundChannel") AbstractSubscribableChannel clientOutboundChannel) {
+        Counter droppedSessions = Counter.builder("websocket.sessions.dropped")
+                .description("WebSocket sessions closed because the client could not keep up")
+                .register(meterRegistry);
+
+        SlowConsumerWebSocketHandler handler = new SlowConsumerWebSocketHandler(
+                clientInboundChannel, clientOutboundChannel, overflowStrategy, droppedSessions);
+        handler.setPhase(getPhase());
+        return handler;
+    }
+}
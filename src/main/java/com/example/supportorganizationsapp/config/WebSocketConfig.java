@@ -1,15 +1,57 @@
 package com.example.supportorganizationsapp.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
-import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
+@Slf4j
 @Configuration
-@EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private static final String[] BROKER_DESTINATIONS = {"/topic/", "/queue/"};
+
+    private final StompAuthorizationInterceptor stompAuthorizationInterceptor;
+    private final String brokerMode;
+    private final long heartbeat;
+    private final String relayHost;
+    private final int relayPort;
+    private final String relayLogin;
+    private final String relayPasscode;
+    private final String relayVirtualHost;
+
+    private TaskScheduler messageBrokerTaskScheduler;
+
+    public WebSocketConfig(StompAuthorizationInterceptor stompAuthorizationInterceptor,
+                           @Value("${websocket.broker.mode:simple}") String brokerMode,
+                           @Value("${websocket.broker.heartbeat:10000}") long heartbeat,
+                           @Value("${websocket.broker.relay.host:localhost}") String relayHost,
+                           @Value("${websocket.broker.relay.port:61613}") int relayPort,
+                           @Value("${websocket.broker.relay.login:guest}") String relayLogin,
+                           @Value("${websocket.broker.relay.passcode:guest}") String relayPasscode,
+                           @Value("${websocket.broker.relay.virtual-host:}") String relayVirtualHost) {
+        this.stompAuthorizationInterceptor = stompAuthorizationInterceptor;
+        this.brokerMode = brokerMode;
+        this.heartbeat = heartbeat;
+        this.relayHost = relayHost;
+        this.relayPort = relayPort;
+        this.relayLogin = relayLogin;
+        this.relayPasscode = relayPasscode;
+        this.relayVirtualHost = relayVirtualHost;
+    }
+
+    @Autowired
+    public void setMessageBrokerTaskScheduler(@Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler taskScheduler) {
+        this.messageBrokerTaskScheduler = taskScheduler;
+    }
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws")
@@ -19,8 +61,37 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/topic/");
+        if ("relay".equalsIgnoreCase(brokerMode)) {
+            enableBrokerRelay(registry);
+        } else {
+            registry.enableSimpleBroker(BROKER_DESTINATIONS)
+                    .setHeartbeatValue(new long[]{heartbeat, heartbeat})
+                    .setTaskScheduler(messageBrokerTaskScheduler);
+        }
         registry.setApplicationDestinationPrefixes("/app");
+        registry.setUserDestinationPrefix("/user");
+    }
+
+    private void enableBrokerRelay(MessageBrokerRegistry registry) {
+        // Every client session holds its own long-lived broker connection, so the relay opens a new connection per
+        // session rather than pooling them; StompAuthorizationInterceptor caps the sessions at CONNECT.
+        registry.enableStompBrokerRelay(BROKER_DESTINATIONS)
+                .setRelayHost(relayHost)
+                .setRelayPort(relayPort)
+                .setClientLogin(relayLogin)
+                .setClientPasscode(relayPasscode)
+                .setSystemLogin(relayLogin)
+                .setSystemPasscode(relayPasscode)
+                .setVirtualHost(relayVirtualHost.isBlank() ? null : relayVirtualHost)
+                .setSystemHeartbeatSendInterval(heartbeat)
+                .setSystemHeartbeatReceiveInterval(heartbeat)
+                .setUserDestinationBroadcast("/topic/unresolved-user-destination")
+                .setUserRegistryBroadcast("/topic/simp-user-registry");
+        log.info("STOMP broker relay enabled for {}:{}", relayHost, relayPort);
     }
 
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthorizationInterceptor);
+    }
 }
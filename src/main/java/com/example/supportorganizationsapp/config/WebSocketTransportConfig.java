@@ -0,0 +1,119 @@
+package com.example.supportorganizationsapp.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import java.time.Duration;
+
+@Configuration
+public class WebSocketTransportConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final MeterRegistry meterRegistry;
+    private final boolean virtualThreads;
+    private final int virtualThreadConcurrencyLimit;
+    private final ThreadPoolTaskExecutor inboundExecutor;
+    private final ThreadPoolTaskExecutor outboundExecutor;
+    private final int messageSizeLimit;
+    private final int sendTimeLimit;
+    private final int sendBufferSizeLimit;
+    private final int timeToFirstMessage;
+
+    public WebSocketTransportConfig(MeterRegistry meterRegistry,
+                                    @Value("${websocket.virtual-threads:false}") boolean virtualThreads,
+                                    @Value("${websocket.virtual-thread-concurrency-limit:1000}") int virtualThreadConcurrencyLimit,
+                                    @Value("${websocket.inbound.core-pool-size:8}") int inboundCorePoolSize,
+                                    @Value("${websocket.inbound.max-pool-size:32}") int inboundMaxPoolSize,
+                                    @Value("${websocket.inbound.queue-capacity:10000}") int inboundQueueCapacity,
+                                    @Value("${websocket.outbound.core-pool-size:8}") int outboundCorePoolSize,
+                                    @Value("${websocket.outbound.max-pool-size:32}") int outboundMaxPoolSize,
+                                    @Value("${websocket.outbound.queue-capacity:10000}") int outboundQueueCapacity,
+                                    @Value("${websocket.transport.message-size-limit:65536}") int messageSizeLimit,
+                                    @Value("${websocket.transport.send-time-limit:PT10S}") Duration sendTimeLimit,
+                                    @Value("${websocket.transport.send-buffer-size-limit:524288}") int sendBufferSizeLimit,
+                                    @Value("${websocket.transport.time-to-first-message:PT30S}") Duration timeToFirstMessage) {
+        this.meterRegistry = meterRegistry;
+        this.virtualThreads = virtualThreads;
+        this.virtualThreadConcurrencyLimit = virtualThreadConcurrencyLimit;
+        this.inboundExecutor = channelExecutor("clientInboundChannel-", inboundCorePoolSize, inboundMaxPoolSize, inboundQueueCapacity);
+        this.outboundExecutor = channelExecutor("clientOutboundChannel-", outboundCorePoolSize, outboundMaxPoolSize, outboundQueueCapacity);
+        this.messageSizeLimit = messageSizeLimit;
+        this.sendTimeLimit = (int) sendTimeLimit.toMillis();
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+        this.timeToFirstMessage = (int) timeToFirstMessage.toMillis();
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        if (virtualThreads) {
+            registration.executor(virtualThreadExecutor("clientInboundChannel-"));
+        } else {
+            registration.taskExecutor(inboundExecutor);
+            registerQueueGauges("inbound", inboundExecutor);
+        }
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        if (virtualThreads) {
+            registration.executor(virtualThreadExecutor("clientOutboundChannel-"));
+        } else {
+            registration.taskExecutor(outboundExecutor);
+            registerQueueGauges("outbound", outboundExecutor);
+        }
+    }
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        // Both client channels are served by pools, so per-session order has to be kept explicitly.
+        registry.setPreserveReceiveOrder(true);
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.setPreservePublishOrder(true);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setMessageSizeLimit(messageSizeLimit)
+                .setSendTimeLimit(sendTimeLimit)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setTimeToFirstMessage(timeToFirstMessage);
+    }
+
+    private ThreadPoolTaskExecutor channelExecutor(String threadNamePrefix, int corePoolSize, int maxPoolSize,
+                                                   int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        return executor;
+    }
+
+    private SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(virtualThreadConcurrencyLimit);
+        return executor;
+    }
+
+    private void registerQueueGauges(String channel, ThreadPoolTaskExecutor executor) {
+        Gauge.builder("websocket.channel.queue.size", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .description("Messages waiting for a client channel thread")
+                .tag("channel", channel)
+                .register(meterRegistry);
+        Gauge.builder("websocket.channel.active.threads", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .tag("channel", channel)
+                .register(meterRegistry);
+    }
+}
@@ -1,9 +1,13 @@
 package com.example.supportorganizationsapp.controllers;
 
+import com.example.supportorganizationsapp.dto.request.application.ApplicationSearchRequest;
+import com.example.supportorganizationsapp.dto.request.application.BatchUpdateApplicationRequest;
 import com.example.supportorganizationsapp.dto.request.application.CreateApplicationRequest;
 import com.example.supportorganizationsapp.dto.request.application.UpdateApplicationRequest;
+import com.example.supportorganizationsapp.dto.response.application.ApplicationPageResponse;
 import com.example.supportorganizationsapp.dto.response.application.ApplicationResponse;
 import com.example.supportorganizationsapp.enums.StatusEnum;
+import com.example.supportorganizationsapp.service.ApplicationMatchingService;
 import com.example.supportorganizationsapp.service.ApplicationService;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,6 +19,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.security.SecurityScheme;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -36,10 +41,12 @@ import java.util.List;
 public class ApplicationController {
 
     private final ApplicationService applicationService;
+    private final ApplicationMatchingService matchingService;
 
     @Autowired
-    public ApplicationController(ApplicationService applicationService) {
+    public ApplicationController(ApplicationService applicationService, ApplicationMatchingService matchingService) {
         this.applicationService = applicationService;
+        this.matchingService = matchingService;
     }
 
     @Operation(
@@ -80,6 +87,102 @@ public class ApplicationController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    @Operation(
+            summary = "Пакетное создание заявок",
+            description = "Создаёт несколько заявок текущего пользователя со статусом NEW за один запрос (не более 500)",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Список заявок для создания",
+                    required = true,
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = {
+                                    @ExampleObject(
+                                            name = "Ежедневные поездки",
+                                            value = """
+                                                    [
+                                                      {
+                                                        "date": "2025-07-15",
+                                                        "time": "09:30",
+                                                        "departureStation": "Новослабодская",
+                                                        "destinationStation": "Менделеевская"
+                                                      },
+                                                      {
+                                                        "date": "2025-07-16",
+                                                        "time": "09:30",
+                                                        "departureStation": "Новослабодская",
+                                                        "destinationStation": "Менделеевская"
+                                                      }
+                                                    ]
+                                                    """
+                                    ),
+                            }
+                    )
+            ),
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "Заявки успешно созданы"),
+                    @ApiResponse(responseCode = "400", description = "Некорректные данные")
+            }
+    )
+    @PostMapping("/batch")
+    public ResponseEntity<List<ApplicationResponse>> createApplications(
+            @RequestBody List<CreateApplicationRequest> applicationRequests) {
+        List<ApplicationResponse> responses = applicationService.createApplications(applicationRequests);
+        return new ResponseEntity<>(responses, HttpStatus.CREATED);
+    }
+
+    @Operation(
+            summary = "Пакетное обновление заявок",
+            description = "Обновляет несколько заявок за один запрос. Изменения применяются целиком или не применяются вовсе",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Список изменений с ID заявок",
+                    required = true,
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = {
+                                    @ExampleObject(
+                                            name = "Перенос времени",
+                                            value = """
+                                                    [
+                                                      { "id": 3, "time": "10:00" },
+                                                      { "id": 4, "time": "10:00" }
+                                                    ]
+                                                    """
+                                    ),
+                            }
+                    )
+            ),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Заявки успешно обновлены"),
+                    @ApiResponse(responseCode = "400", description = "Некорректные данные"),
+                    @ApiResponse(responseCode = "404", description = "Заявка не найдена или принадлежит другому пассажиру"),
+                    @ApiResponse(responseCode = "409", description = "Недопустимый переход статуса")
+            }
+    )
+    @PutMapping("/batch")
+    public ResponseEntity<List<ApplicationResponse>> updateApplications(
+            @RequestBody List<BatchUpdateApplicationRequest> applicationRequests) {
+        List<ApplicationResponse> responses = applicationService.updateApplications(applicationRequests);
+        return new ResponseEntity<>(responses, HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Пакетная отмена заявок",
+            description = "Отменяет несколько заявок за один запрос. Если хотя бы одну заявку отменить нельзя, " +
+                    "ни одна не отменяется",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Заявки отменены"),
+                    @ApiResponse(responseCode = "404", description = "Часть заявок не найдена или принадлежит другому пассажиру"),
+                    @ApiResponse(responseCode = "409", description = "Часть заявок не может быть отменена")
+            }
+    )
+    @PostMapping("/batch/cancel")
+    public ResponseEntity<List<ApplicationResponse>> cancelApplications(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "ID заявок", required = true)
+            @RequestBody List<Long> ids) {
+        List<ApplicationResponse> responses = applicationService.cancelApplications(ids);
+        return new ResponseEntity<>(responses, HttpStatus.OK);
+    }
+
     @Operation(
             summary = "Обновление заявки",
             description = "Обновляет существующую заявку по её ID",
@@ -101,7 +204,6 @@ public class ApplicationController {
                                                       "destinationStation": "Санкт-Петербург Московский",
                                                       "comment": "Изменено время отправления, требуется помощь с инвалидной коляской",
                                                       "status": "NEW",
-                                                      "passengerId": 1,
                                                       "companionId": null
                                                     }
                                                     """
@@ -111,7 +213,8 @@ public class ApplicationController {
             ),
             responses = {
                     @ApiResponse(responseCode = "200", description = "Заявка успешно обновлена"),
-                    @ApiResponse(responseCode = "404", description = "Заявка не найдена")
+                    @ApiResponse(responseCode = "404", description = "Заявка не найдена или принадлежит другому пассажиру"),
+                    @ApiResponse(responseCode = "409", description = "Недопустимый переход статуса")
             }
     )
     @PutMapping("/{id}")
@@ -152,6 +255,47 @@ public class ApplicationController {
         return new ResponseEntity<>(responses, HttpStatus.OK);
     }
 
+    @Operation(
+            summary = "Поиск заявок",
+            description = "Возвращает страницу заявок по произвольной комбинации фильтров. " +
+                    "Для получения следующей страницы передайте nextCursor из предыдущего ответа в параметре cursor",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Страница заявок"),
+                    @ApiResponse(responseCode = "400", description = "Некорректные параметры поиска или курсор")
+            }
+    )
+    @GetMapping("/search")
+    public ResponseEntity<ApplicationPageResponse> searchApplications(
+            @ParameterObject ApplicationSearchRequest request) {
+        ApplicationPageResponse response = applicationService.searchApplications(request);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Подбор заявок для сопровождающего",
+            description = "Возвращает лучшие открытые заявки (NEW, без сопровождающего) рядом с указанной станцией " +
+                    "и временем. Сначала идут заявки с отправлением с этой станции, затем по близости ко времени",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Список подходящих заявок"),
+                    @ApiResponse(responseCode = "400", description = "Некорректная станция, дата или время")
+            }
+    )
+    @GetMapping("/matches")
+    public ResponseEntity<List<ApplicationResponse>> findMatches(
+            @Parameter(description = "Станция, где находится сопровождающий", required = true, example = "Новослободская")
+            @RequestParam String station,
+            @Parameter(description = "Дата в формате YYYY-MM-DD, по умолчанию сегодня", example = "2025-07-15")
+            @RequestParam(required = false) String date,
+            @Parameter(description = "Время в формате HH:mm, по умолчанию текущее", example = "09:30")
+            @RequestParam(required = false) String time,
+            @Parameter(description = "Допустимое отклонение от времени в минутах", example = "120")
+            @RequestParam(required = false) Integer windowMinutes,
+            @Parameter(description = "Максимальное количество заявок", example = "10")
+            @RequestParam(required = false) Integer limit) {
+        List<ApplicationResponse> responses = matchingService.findMatches(station, date, time, windowMinutes, limit);
+        return new ResponseEntity<>(responses, HttpStatus.OK);
+    }
+
     @Operation(
             summary = "Удаление заявки",
             description = "Удаляет заявку по её ID",
@@ -173,7 +317,8 @@ public class ApplicationController {
             description = "Меняет статус заявки на CANCELED",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Заявка отменена"),
-                    @ApiResponse(responseCode = "404", description = "Заявка не найдена")
+                    @ApiResponse(responseCode = "404", description = "Заявка не найдена"),
+                    @ApiResponse(responseCode = "409", description = "Недопустимый переход статуса")
             }
     )
     @PostMapping("/{id}/cancel")
@@ -189,7 +334,8 @@ public class ApplicationController {
             description = "Назначает сопровождающего и меняет статус на ACCEPTED",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Заявка принята"),
-                    @ApiResponse(responseCode = "404", description = "Заявка или сопровождающий не найдены")
+                    @ApiResponse(responseCode = "404", description = "Заявка или сопровождающий не найдены"),
+                    @ApiResponse(responseCode = "409", description = "Заявка уже принята другим сопровождающим или закрыта")
             }
     )
     @PostMapping("/{id}/accept")
@@ -207,7 +353,8 @@ public class ApplicationController {
             description = "Меняет статус заявки на REJECTED",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Заявка отклонена"),
-                    @ApiResponse(responseCode = "404", description = "Заявка не найдена")
+                    @ApiResponse(responseCode = "404", description = "Заявка не найдена"),
+                    @ApiResponse(responseCode = "409", description = "Недопустимый переход статуса")
             }
     )
     @PostMapping("/{id}/reject")
@@ -223,7 +370,8 @@ public class ApplicationController {
             description = "Меняет статус заявки на INPROGRESS",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Заявка в процессе выполнения"),
-                    @ApiResponse(responseCode = "404", description = "Заявка не найдена")
+                    @ApiResponse(responseCode = "404", description = "Заявка не найдена"),
+                    @ApiResponse(responseCode = "409", description = "Недопустимый переход статуса")
             }
     )
     @PostMapping("/{id}/start")
@@ -239,7 +387,8 @@ public class ApplicationController {
             description = "Меняет статус заявки на COMPLETED",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Заявка завершена"),
-                    @ApiResponse(responseCode = "404", description = "Заявка не найдена")
+                    @ApiResponse(responseCode = "404", description = "Заявка не найдена"),
+                    @ApiResponse(responseCode = "409", description = "Недопустимый переход статуса")
             }
     )
     @PostMapping("/{id}/complete")
@@ -252,10 +401,11 @@ public class ApplicationController {
 
     @Operation(
             summary = "Назначение заявки",
-            description = "Назначает сопровождающего и меняет статус на OVERDUE",
+            description = "Назначает текущего пользователя сопровождающим и меняет статус на ACCEPTED",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Заявка назначена"),
-                    @ApiResponse(responseCode = "404", description = "Заявка или сопровождающий не найдены")
+                    @ApiResponse(responseCode = "404", description = "Заявка или сопровождающий не найдены"),
+                    @ApiResponse(responseCode = "409", description = "Заявка уже принята другим сопровождающим или закрыта")
             }
     )
     @PutMapping("/{id}/assigned")
@@ -7,14 +7,17 @@ import com.example.supportorganizationsapp.dto.request.auth.RefreshTokenRequestD
 import com.example.supportorganizationsapp.dto.request.auth.SignUpRequest;
 import com.example.supportorganizationsapp.dto.response.auth.LoginResponseDTO;
 import com.example.supportorganizationsapp.enums.RoleEnum;
+import com.example.supportorganizationsapp.exception.PasswordHashingBusyException;
 import com.example.supportorganizationsapp.exception.UserException;
 import com.example.supportorganizationsapp.models.User;
 import com.example.supportorganizationsapp.repository.UserRepository;
+import com.example.supportorganizationsapp.service.LoginThrottleService;
 import com.example.supportorganizationsapp.service.implementation.CustomUserDetailsService;
 import io.jsonwebtoken.Claims;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -40,6 +43,7 @@ public class AuthController {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final CustomUserDetailsService customUserDetailsService;
+    private final LoginThrottleService loginThrottleService;
 
     @Operation(
             summary = "Регистрация нового сопровождающего",
@@ -156,18 +160,32 @@ public class AuthController {
             description = "Проверяет учетные данные и возвращает JWT access и refresh токены, а также ID пользователя.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Авторизация прошла успешно"),
-                    @ApiResponse(responseCode = "401", description = "Неверные учетные данные")
+                    @ApiResponse(responseCode = "401", description = "Неверные учетные данные"),
+                    @ApiResponse(responseCode = "429", description = "Слишком много попыток входа для аккаунта или адреса"),
+                    @ApiResponse(responseCode = "503", description = "Сервер перегружен проверкой паролей, повторите позже")
             }
     )
     @PostMapping("/signin")
     public ResponseEntity<LoginResponseDTO> login(
             @Parameter(description = "Данные для входа", required = true)
-            @RequestBody LoginRequestDTO loginRequestDTO) {
+            @RequestBody LoginRequestDTO loginRequestDTO,
+            HttpServletRequest request) {
 
         final String email = loginRequestDTO.getEmail();
         final String password = loginRequestDTO.getPassword();
 
-        Authentication authentication = authenticateReq(email, password);
+        // server.forward-headers-strategy resolves this to the client address forwarded by a trusted proxy.
+        loginThrottleService.acquireAttempt(email, request.getRemoteAddr());
+
+        Authentication authentication;
+        try {
+            authentication = authenticateReq(email, password);
+        } catch (PasswordHashingBusyException e) {
+            // The password was never checked, so the attempt does not count as a failure.
+            loginThrottleService.releaseAttempt(email);
+            throw e;
+        }
+        loginThrottleService.loginSucceeded(email);
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
         User user = userRepository.findByEmail(email)
@@ -5,6 +5,8 @@ import com.example.supportorganizationsapp.dto.request.GroupChatRequestDTO;
 import com.example.supportorganizationsapp.dto.request.UserIdRequest;
 import com.example.supportorganizationsapp.dto.response.ApiResponseDTO;
 import com.example.supportorganizationsapp.dto.response.ChatDTO;
+import com.example.supportorganizationsapp.dto.response.ChatReadStatusDTO;
+import com.example.supportorganizationsapp.dto.response.ChatSummaryDTO;
 import com.example.supportorganizationsapp.dto.response.UserDTO;
 import com.example.supportorganizationsapp.exception.ChatException;
 import com.example.supportorganizationsapp.exception.UserException;
@@ -116,21 +118,22 @@ public class ChatController {
 
     @Operation(
             summary = "Получение всех чатов пользователя",
-            description = "Возвращает список всех чатов, в которых участвует пользователь",
+            description = "Возвращает краткую информацию о чатах пользователя (участники, последнее сообщение, число непрочитанных), "
+                    + "отсортированную по времени последней активности",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Список чатов пользователя"),
                     @ApiResponse(responseCode = "401", description = "Неавторизованный доступ")
             }
     )
     @GetMapping("/user")
-    public ResponseEntity<List<ChatDTO>> findAllChatsByUserId(
+    public ResponseEntity<List<ChatSummaryDTO>> findAllChatsByUserId(
             @RequestHeader(JwtConstants.TOKEN_HEADER) String jwt)
             throws UserException {
 
         User user = userService.findUserByProfile(jwt);
-        List<Chat> chats = chatService.findAllByUserId(user.getId());
+        List<ChatSummaryDTO> chats = chatService.findChatSummaries(user.getId());
 
-        return new ResponseEntity<>(ChatDTO.fromChats(chats), HttpStatus.OK);
+        return new ResponseEntity<>(chats, HttpStatus.OK);
     }
 
     @Operation(
@@ -185,7 +188,7 @@ public class ChatController {
 
     @Operation(
             summary = "Отметка чата как прочитанного",
-            description = "Помечает чат как прочитанный для текущего пользователя",
+            description = "Помечает чат как прочитанный для текущего пользователя и возвращает оставшееся число непрочитанных сообщений",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Чат отмечен как прочитанный"),
                     @ApiResponse(responseCode = "404", description = "Чат не найден"),
@@ -193,17 +196,17 @@ public class ChatController {
             }
     )
     @PutMapping("/{chatId}/markAsRead")
-    public ResponseEntity<ChatDTO> markAsRead(
+    public ResponseEntity<ChatReadStatusDTO> markAsRead(
             @Parameter(description = "ID чата", required = true)
             @PathVariable Long chatId,
             @RequestHeader(JwtConstants.TOKEN_HEADER) String jwt)
             throws UserException, ChatException {
 
         User user = userService.findUserByProfile(jwt);
-        Chat chat = chatService.markAsRead(chatId, user);
+        ChatReadStatusDTO status = chatService.markAsRead(chatId, user);
         log.info("Chat {} marked as read for user: {}", chatId, user.getEmail());
 
-        return new ResponseEntity<>(ChatDTO.fromChat(chat), HttpStatus.OK);
+        return new ResponseEntity<>(status, HttpStatus.OK);
     }
 
     @Operation(
@@ -1,7 +1,6 @@
 package com.example.supportorganizationsapp.controllers;
 
 import com.example.supportorganizationsapp.config.JwtConstants;
-import com.example.supportorganizationsapp.config.TokenProvider;
 import com.example.supportorganizationsapp.dto.request.SendMessageRequestDTO;
 import com.example.supportorganizationsapp.dto.request.UpdateMessageContentRequestDTO;
 import com.example.supportorganizationsapp.dto.response.ApiResponseDTO;
@@ -13,7 +12,6 @@ import com.example.supportorganizationsapp.models.Message;
 import com.example.supportorganizationsapp.models.User;
 import com.example.supportorganizationsapp.service.MessageService;
 import com.example.supportorganizationsapp.service.UserService;
-import io.jsonwebtoken.Claims;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -46,27 +44,43 @@ public class MessageController {
 
     private final UserService userService;
     private final MessageService messageService;
-    private final TokenProvider tokenProvider;
 
     @PostMapping("/create")
     public ResponseEntity<MessageDTO> sendMessage(@RequestBody SendMessageRequestDTO req,
                                                   @RequestHeader(JwtConstants.TOKEN_HEADER) String jwt)
-            throws ChatException, UserException {
+            throws ChatException, UserException, MessageException {
 
         User user = userService.findUserByProfile(jwt);
         Message message = messageService.sendMessage(req, user.getId());
         log.info("User {} sent message: {}", user.getEmail(), message.getId());
 
-        return new ResponseEntity<>(MessageDTO.fromMessage(message), HttpStatus.OK);
+        return new ResponseEntity<>(MessageDTO.fromSentMessage(message), HttpStatus.OK);
     }
 
+    @Operation(
+            summary = "Получение истории сообщений чата",
+            description = "Возвращает страницу сообщений чата в хронологическом порядке. Без курсора возвращаются последние сообщения; "
+                    + "для подгрузки более ранних передайте ID первого сообщения страницы в параметре before, для более новых — ID последнего в after",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Страница сообщений получена"),
+                    @ApiResponse(responseCode = "400", description = "Пользователь не является участником чата или курсор некорректен")
+            }
+    )
     @GetMapping("/chat/{chatId}")
-    public ResponseEntity<List<MessageDTO>> getChatMessages(@PathVariable Long chatId,
-                                                         @RequestHeader(JwtConstants.TOKEN_HEADER) String jwt)
-            throws ChatException, UserException {
+    public ResponseEntity<List<MessageDTO>> getChatMessages(
+            @Parameter(description = "ID чата", required = true)
+            @PathVariable Long chatId,
+            @Parameter(description = "ID сообщения, до которого нужно загрузить историю")
+            @RequestParam(required = false) Long before,
+            @Parameter(description = "ID сообщения, после которого нужно загрузить новые сообщения")
+            @RequestParam(required = false) Long after,
+            @Parameter(description = "Размер страницы (не более 200)", example = "50")
+            @RequestParam(defaultValue = "50") int size,
+            @RequestHeader(JwtConstants.TOKEN_HEADER) String jwt)
+            throws ChatException, UserException, MessageException {
 
         User user = userService.findUserByProfile(jwt);
-        List<Message> messages = messageService.getChatMessages(chatId, user);
+        List<Message> messages = messageService.getChatMessages(chatId, user, before, after, size);
 
         return new ResponseEntity<>(MessageDTO.fromMessages(messages), HttpStatus.OK);
     }
@@ -104,9 +118,7 @@ public class MessageController {
             @RequestBody UpdateMessageContentRequestDTO request,
             @Parameter(hidden = true) @RequestHeader("Authorization") String jwt) throws UserException, MessageException {
 
-        Claims claims = tokenProvider.getClaimsFromToken(jwt);
-        String email = claims.get(JwtConstants.EMAIL, String.class);
-        User reqUser = userService.findUserByEmail(email);
+        User reqUser = userService.findUserByProfile(jwt);
 
         Message updatedMessage = messageService.updateMessageContent(messageId, request.getContent(), reqUser.getId());
         MessageDTO messageDTO = MessageDTO.fromMessage(updatedMessage);
@@ -116,7 +128,7 @@ public class MessageController {
 
     @Operation(
             summary = "Отметка сообщения как прочитанное",
-            description = "Добавляет пользователя в список прочитавших сообщение",
+            description = "Сдвигает отметку прочтения пользователя в чате до указанного сообщения включительно",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Сообщение отмечено как прочитанное"),
                     @ApiResponse(responseCode = "403", description = "Пользователь не является участником чата"),
@@ -129,9 +141,7 @@ public class MessageController {
             @PathVariable Long messageId,
             @Parameter(hidden = true) @RequestHeader("Authorization") String jwt) throws UserException, MessageException {
 
-        Claims claims = tokenProvider.getClaimsFromToken(jwt);
-        String email = claims.get(JwtConstants.EMAIL, String.class);
-        User reqUser = userService.findUserByEmail(email);
+        User reqUser = userService.findUserByProfile(jwt);
 
         Message message = messageService.markMessageAsRead(messageId, reqUser.getId());
         MessageDTO messageDTO = MessageDTO.fromMessage(message);
@@ -156,9 +166,7 @@ public class MessageController {
             @RequestParam String searchText,
             @Parameter(hidden = true) @RequestHeader("Authorization") String jwt) throws UserException, ChatException {
 
-        Claims claims = tokenProvider.getClaimsFromToken(jwt);
-        String email = claims.get(JwtConstants.EMAIL, String.class);
-        User reqUser = userService.findUserByEmail(email);
+        User reqUser = userService.findUserByProfile(jwt);
 
         List<Message> messages = messageService.searchMessagesByContent(searchText, chatId, reqUser.getId());
         List<MessageDTO> messageDTOs = MessageDTO.fromMessages(messages);
@@ -183,9 +191,7 @@ public class MessageController {
             @RequestParam Long chatId,
             @Parameter(hidden = true) @RequestHeader("Authorization") String jwt) throws UserException, ChatException, MessageException {
 
-        Claims claims = tokenProvider.getClaimsFromToken(jwt);
-        String email = claims.get(JwtConstants.EMAIL, String.class);
-        User reqUser = userService.findUserByEmail(email);
+        User reqUser = userService.findUserByProfile(jwt);
 
         Message message = messageService.getLastMessageFromUser(userId, chatId, reqUser.getId());
         MessageDTO messageDTO = MessageDTO.fromMessage(message);
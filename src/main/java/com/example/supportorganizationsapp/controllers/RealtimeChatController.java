@@ -1,27 +1,59 @@
 package com.example.supportorganizationsapp.controllers;
 
-import com.example.supportorganizationsapp.models.Message;
-import com.example.supportorganizationsapp.models.User;
+import com.example.supportorganizationsapp.config.StompAuthorizationInterceptor;
+import com.example.supportorganizationsapp.dto.request.SendMessageRequestDTO;
+import com.example.supportorganizationsapp.dto.response.MessageDTO;
+import com.example.supportorganizationsapp.exception.ChatException;
+import com.example.supportorganizationsapp.exception.ErrorDetails;
+import com.example.supportorganizationsapp.exception.MessageException;
+import com.example.supportorganizationsapp.exception.UserException;
+import com.example.supportorganizationsapp.service.MessageService;
+import com.example.supportorganizationsapp.utils.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 
+import java.time.LocalDateTime;
+
 @Slf4j
 @Controller
 @RequiredArgsConstructor
 public class RealtimeChatController {
 
+    private static final String ERRORS_QUEUE = "/queue/errors";
+    private static final String MESSAGES_DESTINATION = "/app/messages";
+
     private final SimpMessagingTemplate messagingTemplate;
+    private final MessageService messageService;
 
     @MessageMapping("/messages")
-    public void receiveMessage(@Payload Message message) {
-        for (User user : message.getChat().getUsers()) {
-            final String destination = "/topic/" + user.getId();
-            messagingTemplate.convertAndSend(destination, message);
-        }
+    public void receiveMessage(@Payload SendMessageRequestDTO req, Authentication authentication)
+            throws UserException, ChatException, MessageException {
+
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+
+        messageService.submitMessage(req, principal.id()).whenComplete((message, error) -> {
+            if (error != null) {
+                messagingTemplate.convertAndSendToUser(principal.getName(), ERRORS_QUEUE,
+                        new ErrorDetails("Message could not be saved", MESSAGES_DESTINATION, LocalDateTime.now()));
+                return;
+            }
+            messagingTemplate.convertAndSend(StompAuthorizationInterceptor.CHAT_TOPIC_PREFIX + req.getChatId(),
+                    MessageDTO.fromSentMessage(message));
+        });
+    }
+
+    @MessageExceptionHandler({UserException.class, ChatException.class, MessageException.class})
+    @SendToUser(ERRORS_QUEUE)
+    public ErrorDetails handleException(Exception e) {
+        log.debug("Rejected realtime message: {}", e.getMessage());
+        return new ErrorDetails(e.getMessage(), MESSAGES_DESTINATION, LocalDateTime.now());
     }
 
 }
@@ -0,0 +1,41 @@
+package com.example.supportorganizationsapp.controllers;
+
+import com.example.supportorganizationsapp.dto.response.StationDTO;
+import com.example.supportorganizationsapp.service.StationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/stations")
+public class StationController {
+
+    private final StationService stationService;
+
+    @Operation(
+            summary = "Автодополнение станций",
+            description = "Возвращает станции из справочника, название которых содержит введённый текст. "
+                    + "Станции, название которых начинается с текста, идут первыми",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Список подходящих станций")
+            }
+    )
+    @GetMapping
+    public ResponseEntity<List<StationDTO>> autocomplete(
+            @Parameter(description = "Часть названия станции", example = "слаб", required = true)
+            @RequestParam String query,
+            @Parameter(description = "Максимальное количество результатов (не более 50)", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+        return new ResponseEntity<>(stationService.autocomplete(query, limit), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.supportorganizationsapp.dto.request.application;
+
+import com.example.supportorganizationsapp.enums.ApplicationSortEnum;
+import com.example.supportorganizationsapp.enums.StatusEnum;
+import io.swagger.v3.oas.annotations.Parameter;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+public class ApplicationSearchRequest {
+
+    @Parameter(description = "Статусы заявок", example = "NEW")
+    public List<StatusEnum> status;
+
+    @Parameter(description = "Часть названия станции отправления", example = "Новослободская")
+    public String departureStation;
+
+    @Parameter(description = "Часть названия станции назначения", example = "Менделеевская")
+    public String destinationStation;
+
+    @Parameter(description = "Часть названия станции отправления или назначения")
+    public String station;
+
+    @Parameter(description = "Начальная дата в формате YYYY-MM-DD", example = "2025-07-01")
+    public String dateFrom;
+
+    @Parameter(description = "Конечная дата в формате YYYY-MM-DD (включительно)", example = "2025-07-31")
+    public String dateTo;
+
+    @Parameter(description = "true — только заявки с сопровождающим, false — только без него")
+    public Boolean hasCompanion;
+
+    @Parameter(description = "ID пассажира")
+    public Long passengerId;
+
+    @Parameter(description = "ID сопровождающего")
+    public Long companionId;
+
+    @Parameter(description = "Поле сортировки: SCHEDULED_AT — по времени поездки, ID — по идентификатору заявки", example = "SCHEDULED_AT")
+    public ApplicationSortEnum sortBy = ApplicationSortEnum.SCHEDULED_AT;
+
+    @Parameter(description = "Направление сортировки", example = "ASC")
+    public Sort.Direction direction = Sort.Direction.ASC;
+
+    @Parameter(description = "Курсор следующей страницы из предыдущего ответа")
+    public String cursor;
+
+    @Parameter(description = "Размер страницы (не более 100)", example = "20")
+    public Integer size;
+
+    public List<StatusEnum> getStatus() {
+        return status;
+    }
+
+    public void setStatus(List<StatusEnum> status) {
+        this.status = status;
+    }
+
+    public String getDepartureStation() {
+        return departureStation;
+    }
+
+    public void setDepartureStation(String departureStation) {
+        this.departureStation = departureStation;
+    }
+
+    public String getDestinationStation() {
+        return destinationStation;
+    }
+
+    public void setDestinationStation(String destinationStation) {
+        this.destinationStation = destinationStation;
+    }
+
+    public String getStation() {
+        return station;
+    }
+
+    public void setStation(String station) {
+        this.station = station;
+    }
+
+    public String getDateFrom() {
+        return dateFrom;
+    }
+
+    public void setDateFrom(String dateFrom) {
+        this.dateFrom = dateFrom;
+    }
+
+    public String getDateTo() {
+        return dateTo;
+    }
+
+    public void setDateTo(String dateTo) {
+        this.dateTo = dateTo;
+    }
+
+    public Boolean getHasCompanion() {
+        return hasCompanion;
+    }
+
+    public void setHasCompanion(Boolean hasCompanion) {
+        this.hasCompanion = hasCompanion;
+    }
+
+    public Long getPassengerId() {
+        return passengerId;
+    }
+
+    public void setPassengerId(Long passengerId) {
+        this.passengerId = passengerId;
+    }
+
+    public Long getCompanionId() {
+        return companionId;
+    }
+
+    public void setCompanionId(Long companionId) {
+        this.companionId = companionId;
+    }
+
+    public ApplicationSortEnum getSortBy() {
+        return sortBy;
+    }
+
+    public void setSortBy(ApplicationSortEnum sortBy) {
+        this.sortBy = sortBy;
+    }
+
+    public Sort.Direction getDirection() {
+        return direction;
+    }
+
+    public void setDirection(Sort.Direction direction) {
+        this.direction = direction;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public Integer getSize() {
+        return size;
+    }
+
+    public void setSize(Integer size) {
+        this.size = size;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.supportorganizationsapp.dto.request.application;
+
+public class BatchUpdateApplicationRequest extends UpdateApplicationRequest {
+
+    public Long id;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+}
@@ -9,7 +9,6 @@ public class UpdateApplicationRequest {
     public String destinationStation;
     public String comment;
     public StatusEnum status;
-    public Long passengerId;
     public Long companionId;
 
     public String getDate() {
@@ -60,14 +59,6 @@ public class UpdateApplicationRequest {
         this.status = status;
     }
 
-    public Long getPassengerId() {
-        return passengerId;
-    }
-
-    public void setPassengerId(Long passengerId) {
-        this.passengerId = passengerId;
-    }
-
     public Long getCompanionId() {
         return companionId;
     }
@@ -0,0 +1,82 @@
+package com.example.supportorganizationsapp.dto.response;
+
+import java.util.Objects;
+
+public class ChatReadStatusDTO {
+    private final Long chatId;
+    private final Long lastReadMessageId;
+    private final long unreadCount;
+
+    private ChatReadStatusDTO(Builder builder) {
+        this.chatId = builder.chatId;
+        this.lastReadMessageId = builder.lastReadMessageId;
+        this.unreadCount = builder.unreadCount;
+    }
+
+    public Long getChatId() {
+        return chatId;
+    }
+
+    public Long getLastReadMessageId() {
+        return lastReadMessageId;
+    }
+
+    public long getUnreadCount() {
+        return unreadCount;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        ChatReadStatusDTO that = (ChatReadStatusDTO) obj;
+        return unreadCount == that.unreadCount &&
+                Objects.equals(chatId, that.chatId) &&
+                Objects.equals(lastReadMessageId, that.lastReadMessageId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(chatId, lastReadMessageId, unreadCount);
+    }
+
+    @Override
+    public String toString() {
+        return "ChatReadStatusDTO{" +
+                "chatId=" + chatId +
+                ", lastReadMessageId=" + lastReadMessageId +
+                ", unreadCount=" + unreadCount +
+                '}';
+    }
+
+    public static class Builder {
+        private Long chatId;
+        private Long lastReadMessageId;
+        private long unreadCount;
+
+        private Builder() {}
+
+        public Builder chatId(Long chatId) {
+            this.chatId = chatId;
+            return this;
+        }
+
+        public Builder lastReadMessageId(Long lastReadMessageId) {
+            this.lastReadMessageId = lastReadMessageId;
+            return this;
+        }
+
+        public Builder unreadCount(long unreadCount) {
+            this.unreadCount = unreadCount;
+            return this;
+        }
+
+        public ChatReadStatusDTO build() {
+            return new ChatReadStatusDTO(this);
+        }
+    }
+}
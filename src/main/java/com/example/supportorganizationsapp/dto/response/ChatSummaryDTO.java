@@ -0,0 +1,187 @@
+package com.example.supportorganizationsapp.dto.response;
+
+import com.example.supportorganizationsapp.repository.projection.ChatSummaryView;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+public class ChatSummaryDTO {
+    private final Long id;
+    private final String chatName;
+    private final Boolean isGroup;
+    private final Set<UserDTO> users;
+    private final Long lastMessageId;
+    private final String lastMessagePreview;
+    private final Long lastMessageUserId;
+    private final LocalDateTime lastActivity;
+    private final long unreadCount;
+
+    private ChatSummaryDTO(Builder builder) {
+        this.id = builder.id;
+        this.chatName = builder.chatName;
+        this.isGroup = builder.isGroup;
+        this.users = builder.users != null ? new HashSet<>(builder.users) : new HashSet<>();
+        this.lastMessageId = builder.lastMessageId;
+        this.lastMessagePreview = builder.lastMessagePreview;
+        this.lastMessageUserId = builder.lastMessageUserId;
+        this.lastActivity = builder.lastActivity;
+        this.unreadCount = builder.unreadCount;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getChatName() {
+        return chatName;
+    }
+
+    public Boolean getIsGroup() {
+        return isGroup;
+    }
+
+    public Set<UserDTO> getUsers() {
+        return new HashSet<>(users);
+    }
+
+    public Long getLastMessageId() {
+        return lastMessageId;
+    }
+
+    public String getLastMessagePreview() {
+        return lastMessagePreview;
+    }
+
+    public Long getLastMessageUserId() {
+        return lastMessageUserId;
+    }
+
+    public LocalDateTime getLastActivity() {
+        return lastActivity;
+    }
+
+    public long getUnreadCount() {
+        return unreadCount;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static ChatSummaryDTO fromView(ChatSummaryView view, Set<UserDTO> users) {
+        if (Objects.isNull(view)) return null;
+        return ChatSummaryDTO.builder()
+                .id(view.getId())
+                .chatName(view.getChatName())
+                .isGroup(view.getIsGroup())
+                .users(users)
+                .lastMessageId(view.getLastMessageId())
+                .lastMessagePreview(view.getLastMessagePreview())
+                .lastMessageUserId(view.getLastMessageUserId())
+                .lastActivity(view.getLastActivity())
+                .unreadCount(view.getUnreadCount() != null ? view.getUnreadCount() : 0L)
+                .build();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        ChatSummaryDTO that = (ChatSummaryDTO) obj;
+        return unreadCount == that.unreadCount &&
+                Objects.equals(id, that.id) &&
+                Objects.equals(chatName, that.chatName) &&
+                Objects.equals(isGroup, that.isGroup) &&
+                Objects.equals(users, that.users) &&
+                Objects.equals(lastMessageId, that.lastMessageId) &&
+                Objects.equals(lastMessagePreview, that.lastMessagePreview) &&
+                Objects.equals(lastMessageUserId, that.lastMessageUserId) &&
+                Objects.equals(lastActivity, that.lastActivity);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, chatName, isGroup, users, lastMessageId, lastMessagePreview, lastMessageUserId,
+                lastActivity, unreadCount);
+    }
+
+    @Override
+    public String toString() {
+        return "ChatSummaryDTO{" +
+                "id=" + id +
+                ", chatName='" + chatName + '\'' +
+                ", isGroup=" + isGroup +
+                ", users=" + users +
+                ", lastMessageId=" + lastMessageId +
+                ", lastMessagePreview='" + lastMessagePreview + '\'' +
+                ", lastMessageUserId=" + lastMessageUserId +
+                ", lastActivity=" + lastActivity +
+                ", unreadCount=" + unreadCount +
+                '}';
+    }
+
+    public static class Builder {
+        private Long id;
+        private String chatName;
+        private Boolean isGroup;
+        private Set<UserDTO> users;
+        private Long lastMessageId;
+        private String lastMessagePreview;
+        private Long lastMessageUserId;
+        private LocalDateTime lastActivity;
+        private long unreadCount;
+
+        private Builder() {}
+
+        public Builder id(Long id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder chatName(String chatName) {
+            this.chatName = chatName;
+            return this;
+        }
+
+        public Builder isGroup(Boolean isGroup) {
+            this.isGroup = isGroup;
+            return this;
+        }
+
+        public Builder users(Set<UserDTO> users) {
+            this.users = users;
+            return this;
+        }
+
+        public Builder lastMessageId(Long lastMessageId) {
+            this.lastMessageId = lastMessageId;
+            return this;
+        }
+
+        public Builder lastMessagePreview(String lastMessagePreview) {
+            this.lastMessagePreview = lastMessagePreview;
+            return this;
+        }
+
+        public Builder lastMessageUserId(Long lastMessageUserId) {
+            this.lastMessageUserId = lastMessageUserId;
+            return this;
+        }
+
+        public Builder lastActivity(LocalDateTime lastActivity) {
+            this.lastActivity = lastActivity;
+            return this;
+        }
+
+        public Builder unreadCount(long unreadCount) {
+            this.unreadCount = unreadCount;
+            return this;
+        }
+
+        public ChatSummaryDTO build() {
+            return new ChatSummaryDTO(this);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.supportorganizationsapp.dto.response;
 
+import com.example.supportorganizationsapp.models.ChatReadState;
 import com.example.supportorganizationsapp.models.Message;
 
 import java.time.LocalDateTime;
@@ -51,10 +52,36 @@ public class MessageDTO {
                 .content(message.getContent())
                 .timeStamp(message.getTimeStamp())
                 .user(UserDTO.fromUser(message.getUser()))
-                .readBy(new HashSet<>(message.getReadBy()))
+                .readBy(readersOf(message))
                 .build();
     }
 
+    public static MessageDTO fromSentMessage(Message message) {
+        if (Objects.isNull(message)) return null;
+        // Nobody but the author can have read a message that was only just written.
+        return MessageDTO.builder()
+                .id(message.getId())
+                .content(message.getContent())
+                .timeStamp(message.getTimeStamp())
+                .user(UserDTO.fromUser(message.getUser()))
+                .readBy(Set.of(message.getUser().getId()))
+                .build();
+    }
+
+    private static Set<Long> readersOf(Message message) {
+        Set<Long> readers = new HashSet<>();
+        readers.add(message.getUser().getId());
+        if (Objects.nonNull(message.getChat())) {
+            for (ChatReadState state : message.getChat().getReadStates()) {
+                Long lastRead = state.getLastReadMessageId();
+                if (lastRead != null && lastRead >= message.getId()) {
+                    readers.add(state.getUser().getId());
+                }
+            }
+        }
+        return readers;
+    }
+
     public static List<MessageDTO> fromMessages(Collection<Message> messages) {
         if (Objects.isNull(messages)) return List.of();
         return messages.stream()
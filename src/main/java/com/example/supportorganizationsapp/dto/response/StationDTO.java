@@ -0,0 +1,78 @@
+package com.example.supportorganizationsapp.dto.response;
+
+import com.example.supportorganizationsapp.models.Station;
+
+import java.util.Objects;
+
+public class StationDTO {
+    private final Long id;
+    private final String name;
+
+    private StationDTO(Builder builder) {
+        this.id = builder.id;
+        this.name = builder.name;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static StationDTO fromStation(Station station) {
+        if (Objects.isNull(station)) return null;
+        return StationDTO.builder()
+                .id(station.getId())
+                .name(station.getName())
+                .build();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        StationDTO that = (StationDTO) obj;
+        return Objects.equals(id, that.id) &&
+                Objects.equals(name, that.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name);
+    }
+
+    @Override
+    public String toString() {
+        return "StationDTO{" +
+                "id=" + id +
+                ", name='" + name + '\'' +
+                '}';
+    }
+
+    public static class Builder {
+        private Long id;
+        private String name;
+
+        private Builder() {}
+
+        public Builder id(Long id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public StationDTO build() {
+            return new StationDTO(this);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.supportorganizationsapp.dto.response;
 
 import com.example.supportorganizationsapp.models.User;
+import com.example.supportorganizationsapp.repository.projection.ChatParticipantView;
 
 import java.util.Collection;
 import java.util.List;
@@ -65,6 +66,18 @@ public class UserDTO {
                 .build();
     }
 
+    public static UserDTO fromParticipant(ChatParticipantView participant) {
+        if (Objects.isNull(participant)) return null;
+        return UserDTO.builder()
+                .id(participant.getId())
+                .email(participant.getEmail())
+                .phoneNumber(participant.getPhoneNumber())
+                .firstName(participant.getFirstName())
+                .lastName(participant.getLastName())
+                .role(participant.getRoleEnum().getNameRole())
+                .build();
+    }
+
     public static Set<UserDTO> fromUsers(Collection<User> users) {
         if (Objects.isNull(users)) return Set.of();
         return users.stream()
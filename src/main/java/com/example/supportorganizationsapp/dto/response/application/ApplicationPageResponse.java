@@ -0,0 +1,44 @@
+package com.example.supportorganizationsapp.dto.response.application;
+
+import java.util.List;
+
+public class ApplicationPageResponse {
+
+    public List<ApplicationResponse> items;
+    public String nextCursor;
+    public boolean hasNext;
+
+    public ApplicationPageResponse(List<ApplicationResponse> items, String nextCursor, boolean hasNext) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    public static ApplicationPageResponse empty() {
+        return new ApplicationPageResponse(List.of(), null, false);
+    }
+
+    public List<ApplicationResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ApplicationResponse> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+}
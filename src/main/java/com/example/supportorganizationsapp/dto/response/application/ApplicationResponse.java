@@ -1,6 +1,9 @@
 package com.example.supportorganizationsapp.dto.response.application;
 
 import com.example.supportorganizationsapp.enums.StatusEnum;
+import com.example.supportorganizationsapp.models.Application;
+import com.example.supportorganizationsapp.repository.projection.ApplicationView;
+import com.example.supportorganizationsapp.utils.ScheduleUtil;
 
 public class ApplicationResponse {
 
@@ -26,6 +29,34 @@ public class ApplicationResponse {
         this.companionId = companionId;
     }
 
+    public static ApplicationResponse fromApplication(Application application) {
+        return new ApplicationResponse(
+                application.getId(),
+                ScheduleUtil.formatDate(application.getScheduledAt()),
+                ScheduleUtil.formatTime(application.getScheduledAt()),
+                application.getDepartureStation() != null ? application.getDepartureStation().getName() : null,
+                application.getDestinationStation() != null ? application.getDestinationStation().getName() : null,
+                application.getComment(),
+                application.getStatus(),
+                application.getPassenger().getId(),
+                application.getCompanion() != null ? application.getCompanion().getId() : null
+        );
+    }
+
+    public static ApplicationResponse fromView(ApplicationView view) {
+        return new ApplicationResponse(
+                view.id(),
+                ScheduleUtil.formatDate(view.scheduledAt()),
+                ScheduleUtil.formatTime(view.scheduledAt()),
+                view.departureStation(),
+                view.destinationStation(),
+                view.comment(),
+                view.status(),
+                view.passengerId(),
+                view.companionId()
+        );
+    }
+
     public Long getId() {
         return id;
     }
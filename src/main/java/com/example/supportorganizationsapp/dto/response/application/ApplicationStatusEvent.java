@@ -0,0 +1,50 @@
+package com.example.supportorganizationsapp.dto.response.application;
+
+import com.example.supportorganizationsapp.enums.StatusEnum;
+
+public class ApplicationStatusEvent {
+
+    public Long applicationId;
+    public StatusEnum status;
+    public String date;
+    public String time;
+
+    public ApplicationStatusEvent(Long applicationId, StatusEnum status, String date, String time) {
+        this.applicationId = applicationId;
+        this.status = status;
+        this.date = date;
+        this.time = time;
+    }
+
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public void setApplicationId(Long applicationId) {
+        this.applicationId = applicationId;
+    }
+
+    public StatusEnum getStatus() {
+        return status;
+    }
+
+    public void setStatus(StatusEnum status) {
+        this.status = status;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public void setDate(String date) {
+        this.date = date;
+    }
+
+    public String getTime() {
+        return time;
+    }
+
+    public void setTime(String time) {
+        this.time = time;
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.supportorganizationsapp.enums;
+
+public enum ApplicationSortEnum {
+    SCHEDULED_AT,
+    ID
+}
@@ -2,6 +2,11 @@ package com.example.supportorganizationsapp.enums;
 
 import com.fasterxml.jackson.annotation.JsonValue;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 public enum StatusEnum {
     NEW(0, "Создана"),
     CANCELED(1, "Отменена"),
@@ -9,7 +14,19 @@ public enum StatusEnum {
     REJECTED(3, "Отклонена"),
     INPROGRESS(4, "В процессе"),
     COMPLETED(5, "Выполнена"),
-    OVERDUE(6,"Назначена");
+    OVERDUE(6,"Просрочена");
+
+    private static final Map<StatusEnum, Set<StatusEnum>> TRANSITIONS = new EnumMap<>(StatusEnum.class);
+
+    static {
+        TRANSITIONS.put(NEW, EnumSet.of(CANCELED, ACCEPTED, REJECTED, OVERDUE));
+        TRANSITIONS.put(ACCEPTED, EnumSet.of(CANCELED, REJECTED, INPROGRESS, OVERDUE));
+        TRANSITIONS.put(OVERDUE, EnumSet.of(CANCELED, REJECTED, INPROGRESS));
+        TRANSITIONS.put(INPROGRESS, EnumSet.of(COMPLETED));
+        TRANSITIONS.put(CANCELED, EnumSet.noneOf(StatusEnum.class));
+        TRANSITIONS.put(REJECTED, EnumSet.noneOf(StatusEnum.class));
+        TRANSITIONS.put(COMPLETED, EnumSet.noneOf(StatusEnum.class));
+    }
 
     private int numStatus;
     private String nameStatus;
@@ -35,4 +52,14 @@ public enum StatusEnum {
     public void setNameStatus(String nameStatus) {
         this.nameStatus = nameStatus;
     }
+
+    public static Set<StatusEnum> sourcesOf(StatusEnum target) {
+        Set<StatusEnum> sources = EnumSet.noneOf(StatusEnum.class);
+        TRANSITIONS.forEach((source, targets) -> {
+            if (targets.contains(target)) {
+                sources.add(source);
+            }
+        });
+        return sources;
+    }
 }
@@ -0,0 +1,9 @@
+package com.example.supportorganizationsapp.exception;
+
+public class ApplicationConflictException extends RuntimeException {
+
+    public ApplicationConflictException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.example.supportorganizationsapp.exception;
+
+public class ApplicationNotFoundException extends RuntimeException {
+
+    public ApplicationNotFoundException(String message) {
+        super(message);
+    }
+
+}
@@ -4,14 +4,25 @@ import com.example.supportorganizationsapp.enums.StatusEnum;
 import jakarta.persistence.*;
 import lombok.Builder;
 
+import java.time.LocalDateTime;
+
 @Entity(name = "application")
+@Table(name = "application", indexes = {
+        @Index(name = "idx_application_status_scheduled", columnList = "status, scheduled_at"),
+        @Index(name = "idx_application_companion_status_scheduled", columnList = "companion_id, status, scheduled_at"),
+        @Index(name = "idx_application_departure_station", columnList = "departure_station_id"),
+        @Index(name = "idx_application_destination_station", columnList = "destination_station_id")
+})
+@NamedEntityGraph(name = "application-with-stations", attributeNodes = {
+        @NamedAttributeNode("departureStation"),
+        @NamedAttributeNode("destinationStation")
+})
 @Builder
 public class Application extends Base {
 
-    private String date;
-    private String time;
-    private String departureStation;
-    private String destinationStation;
+    private LocalDateTime scheduledAt;
+    private Station departureStation;
+    private Station destinationStation;
     private String comment;
     private StatusEnum status;
     private User passenger;
@@ -20,9 +31,8 @@ public class Application extends Base {
     protected Application() {
     }
 
-    public Application(String date, String time, String departureStation, String destinationStation, String comment, StatusEnum status, User passenger, User companion) {
-        this.date = date;
-        this.time = time;
+    public Application(LocalDateTime scheduledAt, Station departureStation, Station destinationStation, String comment, StatusEnum status, User passenger, User companion) {
+        this.scheduledAt = scheduledAt;
         this.departureStation = departureStation;
         this.destinationStation = destinationStation;
         this.comment = comment;
@@ -31,35 +41,32 @@ public class Application extends Base {
         this.companion = companion;
     }
 
-    public String getDate() {
-        return date;
-    }
-
-    public void setDate(String date) {
-        this.date = date;
-    }
-
-    public String getTime() {
-        return time;
+    @Column(nullable = false)
+    public LocalDateTime getScheduledAt() {
+        return scheduledAt;
     }
 
-    public void setTime(String time) {
-        this.time = time;
+    public void setScheduledAt(LocalDateTime scheduledAt) {
+        this.scheduledAt = scheduledAt;
     }
 
-    public String getDepartureStation() {
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "departure_station_id")
+    public Station getDepartureStation() {
         return departureStation;
     }
 
-    public void setDepartureStation(String departureStation) {
+    public void setDepartureStation(Station departureStation) {
         this.departureStation = departureStation;
     }
 
-    public String getDestinationStation() {
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "destination_station_id")
+    public Station getDestinationStation() {
         return destinationStation;
     }
 
-    public void setDestinationStation(String destinationStation) {
+    public void setDestinationStation(Station destinationStation) {
         this.destinationStation = destinationStation;
     }
 
@@ -72,15 +79,17 @@ public class Application extends Base {
     }
 
     @Enumerated(EnumType.STRING)
+    @Column(updatable = false)
     public StatusEnum getStatus() {
         return status;
     }
 
-    public void setStatus(StatusEnum status) {
+    // Only used by Hibernate on load: status and companion change through the conditional claim and transition queries.
+    private void setStatus(StatusEnum status) {
         this.status = status;
     }
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "passenger_id", nullable = false)
     public User getPassenger() {
         return passenger;
@@ -90,13 +99,14 @@ public class Application extends Base {
         this.passenger = passenger;
     }
 
-    @ManyToOne
-    @JoinColumn(name = "companion_id")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "companion_id", updatable = false)
     public User getCompanion() {
         return companion;
     }
 
-    public void setCompanion(User companion) {
+    // Only used by Hibernate on load, like setStatus.
+    private void setCompanion(User companion) {
         this.companion = companion;
     }
 }
@@ -3,9 +3,21 @@ package com.example.supportorganizationsapp.models;
 import jakarta.persistence.*;
 import lombok.Builder;
 
+import java.time.LocalDateTime;
 import java.util.*;
 
 @Entity(name = "chat")
+@Table(name = "chat", indexes = {
+        @Index(name = "idx_chat_last_activity", columnList = "last_activity_at")
+})
+@NamedEntityGraph(name = "chat-header", attributeNodes = {
+        @NamedAttributeNode("createdBy")
+})
+@NamedEntityGraph(name = "chat-with-members", attributeNodes = {
+        @NamedAttributeNode("createdBy"),
+        @NamedAttributeNode("admins"),
+        @NamedAttributeNode("users")
+})
 @Builder
 public class Chat extends Base {
 
@@ -15,17 +27,26 @@ public class Chat extends Base {
     private Set<User> users = new HashSet<>();
     private User createdBy;
     private List<Message> messages = new ArrayList<>();
+    @Builder.Default
+    private Set<ChatReadState> readStates = new HashSet<>();
+    private Long lastMessageId;
+    private LocalDateTime lastActivityAt;
 
     public Chat() {
+        this.readStates = new HashSet<>();
     }
 
-    public Chat(String chatName, Boolean isGroup, Set<User> admins, Set<User> users, User createdBy, List<Message> messages) {
+    public Chat(String chatName, Boolean isGroup, Set<User> admins, Set<User> users, User createdBy, List<Message> messages,
+                Set<ChatReadState> readStates, Long lastMessageId, LocalDateTime lastActivityAt) {
         this.chatName = chatName;
         this.isGroup = isGroup;
         this.admins = admins;
         this.users = users;
         this.createdBy = createdBy;
         this.messages = messages;
+        this.readStates = readStates;
+        this.lastMessageId = lastMessageId;
+        this.lastActivityAt = lastActivityAt;
     }
 
     public String getChatName() {
@@ -62,7 +83,7 @@ public class Chat extends Base {
         this.users = users;
     }
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     public User getCreatedBy() {
         return createdBy;
     }
@@ -71,7 +92,8 @@ public class Chat extends Base {
         this.createdBy = createdBy;
     }
 
-    @OneToMany(cascade = CascadeType.ALL)
+    @OneToMany(mappedBy = "chat", cascade = CascadeType.ALL)
+    @OrderBy("timeStamp ASC, id ASC")
     public List<Message> getMessages() {
         return messages;
     }
@@ -80,6 +102,31 @@ public class Chat extends Base {
         this.messages = messages;
     }
 
+    @OneToMany(mappedBy = "chat", cascade = CascadeType.ALL, orphanRemoval = true)
+    public Set<ChatReadState> getReadStates() {
+        return readStates;
+    }
+
+    public void setReadStates(Set<ChatReadState> readStates) {
+        this.readStates = readStates;
+    }
+
+    public Long getLastMessageId() {
+        return lastMessageId;
+    }
+
+    public void setLastMessageId(Long lastMessageId) {
+        this.lastMessageId = lastMessageId;
+    }
+
+    public LocalDateTime getLastActivityAt() {
+        return lastActivityAt;
+    }
+
+    public void setLastActivityAt(LocalDateTime lastActivityAt) {
+        this.lastActivityAt = lastActivityAt;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
@@ -0,0 +1,79 @@
+package com.example.supportorganizationsapp.models;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Builder;
+
+import java.util.Objects;
+
+@Entity(name = "chat_read_state")
+@Table(name = "chat_read_state", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_chat_read_state_chat_user", columnNames = {"chat_id", "user_id"})
+})
+@Builder
+public class ChatReadState extends Base {
+
+    private Chat chat;
+    private User user;
+    private Long lastReadMessageId;
+
+    public ChatReadState() {
+    }
+
+    public ChatReadState(Chat chat, User user, Long lastReadMessageId) {
+        this.chat = chat;
+        this.user = user;
+        this.lastReadMessageId = lastReadMessageId;
+    }
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    public Chat getChat() {
+        return chat;
+    }
+
+    public void setChat(Chat chat) {
+        this.chat = chat;
+    }
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    public User getUser() {
+        return user;
+    }
+
+    public void setUser(User user) {
+        this.user = user;
+    }
+
+    public Long getLastReadMessageId() {
+        return lastReadMessageId;
+    }
+
+    public void setLastReadMessageId(Long lastReadMessageId) {
+        this.lastReadMessageId = lastReadMessageId;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (!(obj instanceof ChatReadState other)) {
+            return false;
+        }
+        return Objects.equals(chat, other.getChat())
+                && Objects.equals(user, other.getUser());
+    }
+
+    // Hashed by user only: the chat's own hash follows its mutable member sets.
+    @Override
+    public int hashCode() {
+        return Objects.hash(user);
+    }
+
+}
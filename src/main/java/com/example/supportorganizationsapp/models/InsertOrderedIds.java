@@ -0,0 +1,12 @@
+package com.example.supportorganizationsapp.models;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Ids of the annotated entity are taken one at a time from its sequence, so a higher id means a later insert on any node.
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface InsertOrderedIds {
+}
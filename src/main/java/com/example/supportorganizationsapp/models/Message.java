@@ -1,16 +1,27 @@
 package com.example.supportorganizationsapp.models;
 
-import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.Table;
 import lombok.Builder;
 
 import java.time.LocalDateTime;
-import java.util.HashSet;
 import java.util.Objects;
-import java.util.Set;
 
 @Entity(name = "message")
+@Table(name = "message", indexes = {
+        @Index(name = "idx_message_chat_time_id", columnList = "chat_id, time_stamp, id"),
+        @Index(name = "idx_message_chat_id", columnList = "chat_id, id")
+})
+@NamedEntityGraph(name = "message-with-author", attributeNodes = {
+        @NamedAttributeNode("user")
+})
+// Chat last message, read watermarks and unread counts all compare message ids, so they must follow send order.
+@InsertOrderedIds
 @Builder
 public class Message extends Base {
 
@@ -18,17 +29,15 @@ public class Message extends Base {
     private LocalDateTime timeStamp;
     private User user;
     private Chat chat;
-    private Set<Long> readBy = new HashSet<>();
 
     public Message() {
     }
 
-    public Message(String content, LocalDateTime timeStamp, User user, Chat chat, Set<Long> readBy) {
+    public Message(String content, LocalDateTime timeStamp, User user, Chat chat) {
         this.content = content;
         this.timeStamp = timeStamp;
         this.user = user;
         this.chat = chat;
-        this.readBy = readBy;
     }
 
     public String getContent() {
@@ -47,7 +56,7 @@ public class Message extends Base {
         this.timeStamp = timeStamp;
     }
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     public User getUser() {
         return user;
     }
@@ -56,7 +65,7 @@ public class Message extends Base {
         this.user = user;
     }
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     public Chat getChat() {
         return chat;
     }
@@ -65,15 +74,6 @@ public class Message extends Base {
         this.chat = chat;
     }
 
-    @ElementCollection
-    public Set<Long> getReadBy() {
-        return readBy;
-    }
-
-    public void setReadBy(Set<Long> readBy) {
-        this.readBy = readBy;
-    }
-
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
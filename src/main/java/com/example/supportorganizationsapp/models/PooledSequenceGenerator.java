@@ -0,0 +1,42 @@
+package com.example.supportorganizationsapp.models;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+
+    public static final String ALLOCATION_SIZE_SETTING = "app.id.allocation_size";
+    public static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) {
+        int allocationSize = isInsertOrdered(parameters.getProperty(ENTITY_NAME))
+                ? 1
+                : serviceRegistry.requireService(ConfigurationService.class)
+                        .getSetting(ALLOCATION_SIZE_SETTING, StandardConverters.INTEGER, DEFAULT_ALLOCATION_SIZE);
+        parameters.setProperty(INCREMENT_PARAM, String.valueOf(allocationSize));
+        parameters.setProperty(OPT_PARAM, allocationSize > 1
+                ? StandardOptimizerDescriptor.POOLED_LO.getExternalName()
+                : StandardOptimizerDescriptor.NONE.getExternalName());
+        super.configure(type, parameters, serviceRegistry);
+    }
+
+    // Each node reserves its own block of ids, so blocks from different nodes interleave out of insert order.
+    private static boolean isInsertOrdered(String entityName) {
+        if (entityName == null) {
+            return false;
+        }
+        try {
+            return Class.forName(entityName, false, PooledSequenceGenerator.class.getClassLoader())
+                    .isAnnotationPresent(InsertOrderedIds.class);
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.supportorganizationsapp.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Builder;
+
+import java.util.Objects;
+
+@Entity(name = "station")
+@Table(name = "station")
+@Builder
+public class Station extends Base {
+
+    private String name;
+    private String normalizedName;
+
+    public Station() {
+    }
+
+    public Station(String name, String normalizedName) {
+        this.name = name;
+        this.normalizedName = normalizedName;
+    }
+
+    @Column(nullable = false)
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    @Column(nullable = false, unique = true)
+    public String getNormalizedName() {
+        return normalizedName;
+    }
+
+    public void setNormalizedName(String normalizedName) {
+        this.normalizedName = normalizedName;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (!(obj instanceof Station other)) {
+            return false;
+        }
+        return Objects.equals(normalizedName, other.getNormalizedName());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(normalizedName);
+    }
+}
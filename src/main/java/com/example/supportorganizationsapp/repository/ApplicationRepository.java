@@ -2,139 +2,347 @@ package com.example.supportorganizationsapp.repository;
 
 import com.example.supportorganizationsapp.enums.StatusEnum;
 import com.example.supportorganizationsapp.models.Application;
+import com.example.supportorganizationsapp.models.User;
+import com.example.supportorganizationsapp.repository.projection.ApplicationView;
+import com.example.supportorganizationsapp.repository.projection.OpenApplicationView;
+import com.example.supportorganizationsapp.repository.projection.OverdueCandidateView;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface ApplicationRepository extends JpaRepository<Application, Long> {
+public interface ApplicationRepository extends JpaRepository<Application, Long>, JpaSpecificationExecutor<Application>,
+        ApplicationSearchRepository {
 
-    @Query("SELECT a FROM application a WHERE a.passenger.id = :userId ORDER BY a.id DESC")
-    List<Application> findByUser(@Param("userId") Long userId);
+    @Query("""
+        SELECT new com.example.supportorganizationsapp.repository.projection.ApplicationView(
+               a.id, a.scheduledAt, ds.name, dt.name, a.comment, a.status, a.passenger.id, a.companion.id)
+          FROM application a
+          LEFT JOIN a.departureStation ds
+          LEFT JOIN a.destinationStation dt
+         WHERE a.id = :id
+        """)
+    Optional<ApplicationView> findViewById(@Param("id") Long id);
+
+    @Query("""
+        SELECT new com.example.supportorganizationsapp.repository.projection.ApplicationView(
+               a.id, a.scheduledAt, ds.name, dt.name, a.comment, a.status, a.passenger.id, a.companion.id)
+          FROM application a
+          LEFT JOIN a.departureStation ds
+          LEFT JOIN a.destinationStation dt
+         WHERE a.id IN :ids
+        """)
+    List<ApplicationView> findViewsByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+        SELECT new com.example.supportorganizationsapp.repository.projection.ApplicationView(
+               a.id, a.scheduledAt, ds.name, dt.name, a.comment, a.status, a.passenger.id, a.companion.id)
+          FROM application a
+          LEFT JOIN a.departureStation ds
+          LEFT JOIN a.destinationStation dt
+         WHERE a.passenger.id = :userId
+         ORDER BY a.id DESC
+        """)
+    List<ApplicationView> findByUser(@Param("userId") Long userId);
+
+    @Query("""
+        SELECT new com.example.supportorganizationsapp.repository.projection.ApplicationView(
+               a.id, a.scheduledAt, ds.name, dt.name, a.comment, a.status, a.passenger.id, a.companion.id)
+          FROM application a
+          LEFT JOIN a.departureStation ds
+          LEFT JOIN a.destinationStation dt
+         WHERE a.companion.id = :userId
+         ORDER BY a.id DESC
+        """)
+    List<ApplicationView> findByCompanion(@Param("userId") Long userId);
 
-    @Query("SELECT a FROM application a WHERE a.companion.id = :userId ORDER BY a.id DESC")
-    List<Application> findByCompanion(@Param("userId") Long userId);
+    @Query("""
+        SELECT new com.example.supportorganizationsapp.repository.projection.ApplicationView(
+               a.id, a.scheduledAt, ds.name, dt.name, a.comment, a.status, a.passenger.id, a.companion.id)
+          FROM application a
+          LEFT JOIN a.departureStation ds
+          LEFT JOIN a.destinationStation dt
+         WHERE a.status = com.example.supportorganizationsapp.enums.StatusEnum.NEW
+           AND a.companion IS NULL
+         ORDER BY a.scheduledAt ASC
+        """)
+    List<ApplicationView> findAllNewWithoutCompanion();
 
     @Query("""
-        SELECT a 
-          FROM application a 
+        SELECT new com.example.supportorganizationsapp.repository.projection.OpenApplicationView(
+               a.id, a.scheduledAt, ds.id, ds.name, dt.id, dt.name, a.comment, a.passenger.id)
+          FROM application a
+          JOIN a.departureStation ds
+          JOIN a.destinationStation dt
          WHERE a.status = com.example.supportorganizationsapp.enums.StatusEnum.NEW
            AND a.companion IS NULL
         """)
-    List<Application> findAllNewWithoutCompanion();
+    List<OpenApplicationView> findOpenForMatching();
+
+    @Query("""
+        SELECT new com.example.supportorganizationsapp.repository.projection.ApplicationView(
+               a.id, a.scheduledAt, ds.name, dt.name, a.comment, a.status, a.passenger.id, a.companion.id)
+          FROM application a
+          LEFT JOIN a.departureStation ds
+          LEFT JOIN a.destinationStation dt
+         WHERE a.status = :status
+         ORDER BY a.scheduledAt DESC
+        """)
+    List<ApplicationView> findByStatus(@Param("status") StatusEnum status);
+
+    @Query("""
+        SELECT new com.example.supportorganizationsapp.repository.projection.ApplicationView(
+               a.id, a.scheduledAt, ds.name, dt.name, a.comment, a.status, a.passenger.id, a.companion.id)
+          FROM application a
+          LEFT JOIN a.departureStation ds
+          LEFT JOIN a.destinationStation dt
+         WHERE a.scheduledAt >= :from AND a.scheduledAt < :to
+         ORDER BY a.scheduledAt ASC
+        """)
+    List<ApplicationView> findScheduledBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 
-    @Query("SELECT a FROM application a WHERE a.status = :status ORDER BY a.date DESC, a.time DESC")
-    List<Application> findByStatus(@Param("status") StatusEnum status);
+    @Query("""
+        SELECT new com.example.supportorganizationsapp.repository.projection.ApplicationView(
+               a.id, a.scheduledAt, ds.name, dt.name, a.comment, a.status, a.passenger.id, a.companion.id)
+          FROM application a
+          LEFT JOIN a.departureStation ds
+          LEFT JOIN a.destinationStation dt
+         WHERE ds.id IN :stationIds
+         ORDER BY a.scheduledAt DESC
+        """)
+    List<ApplicationView> findByDepartureStation(@Param("stationIds") Collection<Long> stationIds);
 
-    @Query("SELECT a FROM application a WHERE a.date = :date ORDER BY a.time ASC")
-    List<Application> findByDate(@Param("date") String date);
+    @Query("""
+        SELECT new com.example.supportorganizationsapp.repository.projection.ApplicationView(
+               a.id, a.scheduledAt, ds.name, dt.name, a.comment, a.status, a.passenger.id, a.companion.id)
+          FROM application a
+          LEFT JOIN a.departureStation ds
+          LEFT JOIN a.destinationStation dt
+         WHERE dt.id IN :stationIds
+         ORDER BY a.scheduledAt DESC
+        """)
+    List<ApplicationView> findByDestinationStation(@Param("stationIds") Collection<Long> stationIds);
 
-    @Query("SELECT a FROM application a WHERE a.date BETWEEN :startDate AND :endDate ORDER BY a.date ASC, a.time ASC")
-    List<Application> findByDateRange(@Param("startDate") String startDate, @Param("endDate") String endDate);
+    @Query("""
+        SELECT new com.example.supportorganizationsapp.repository.projection.ApplicationView(
+               a.id, a.scheduledAt, ds.name, dt.name, a.comment, a.status, a.passenger.id, a.companion.id)
+          FROM application a
+          LEFT JOIN a.departureStation ds
+          LEFT JOIN a.destinationStation dt
+         WHERE ds.id IN :stationIds
+            OR dt.id IN :stationIds
+         ORDER BY a.scheduledAt DESC
+        """)
+    List<ApplicationView> findByAnyStation(@Param("stationIds") Collection<Long> stationIds);
 
-    @Query("SELECT a FROM application a WHERE LOWER(a.departureStation) LIKE LOWER(CONCAT('%', :station, '%')) ORDER BY a.date DESC")
-    List<Application> findByDepartureStation(@Param("station") String station);
+    @Query("""
+        SELECT new com.example.supportorganizationsapp.repository.projection.ApplicationView(
+               a.id, a.scheduledAt, ds.name, dt.name, a.comment, a.status, a.passenger.id, a.companion.id)
+          FROM application a
+          LEFT JOIN a.departureStation ds
+          LEFT JOIN a.destinationStation dt
+         WHERE ds.id IN :departureStationIds
+           AND dt.id IN :destinationStationIds
+         ORDER BY a.scheduledAt DESC
+        """)
+    List<ApplicationView> findByRoute(@Param("departureStationIds") Collection<Long> departureStationIds,
+                                      @Param("destinationStationIds") Collection<Long> destinationStationIds);
 
-    @Query("SELECT a FROM application a WHERE LOWER(a.destinationStation) LIKE LOWER(CONCAT('%', :station, '%')) ORDER BY a.date DESC")
-    List<Application> findByDestinationStation(@Param("station") String station);
+    @Query("""
+        SELECT new com.example.supportorganizationsapp.repository.projection.ApplicationView(
+               a.id, a.scheduledAt, ds.name, dt.name, a.comment, a.status, a.passenger.id, a.companion.id)
+          FROM application a
+          LEFT JOIN a.departureStation ds
+          LEFT JOIN a.destinationStation dt
+         WHERE a.status IN (
+               com.example.supportorganizationsapp.enums.StatusEnum.ACCEPTED,
+               com.example.supportorganizationsapp.enums.StatusEnum.INPROGRESS,
+               com.example.supportorganizationsapp.enums.StatusEnum.OVERDUE
+         )
+         ORDER BY a.scheduledAt ASC
+        """)
+    List<ApplicationView> findActiveApplications();
 
     @Query("""
-        SELECT a FROM application a 
-        WHERE LOWER(a.departureStation) LIKE LOWER(CONCAT('%', :station, '%')) 
-           OR LOWER(a.destinationStation) LIKE LOWER(CONCAT('%', :station, '%'))
-        ORDER BY a.date DESC
+        SELECT new com.example.supportorganizationsapp.repository.projection.ApplicationView(
+               a.id, a.scheduledAt, ds.name, dt.name, a.comment, a.status, a.passenger.id, a.companion.id)
+          FROM application a
+          LEFT JOIN a.departureStation ds
+          LEFT JOIN a.destinationStation dt
+         WHERE a.companion IS NULL
+           AND a.status = com.example.supportorganizationsapp.enums.StatusEnum.NEW
+           AND ds.id IN :stationIds
+         ORDER BY a.scheduledAt ASC
         """)
-    List<Application> findByAnyStation(@Param("station") String station);
+    List<ApplicationView> findWithoutCompanionByDepartureStation(@Param("stationIds") Collection<Long> stationIds);
 
     @Query("""
-        SELECT a FROM application a 
-        WHERE LOWER(a.departureStation) LIKE LOWER(CONCAT('%', :departureStation, '%'))
-          AND LOWER(a.destinationStation) LIKE LOWER(CONCAT('%', :destinationStation, '%'))
-        ORDER BY a.date DESC, a.time DESC
+        SELECT new com.example.supportorganizationsapp.repository.projection.ApplicationView(
+               a.id, a.scheduledAt, ds.name, dt.name, a.comment, a.status, a.passenger.id, a.companion.id)
+          FROM application a
+          LEFT JOIN a.departureStation ds
+          LEFT JOIN a.destinationStation dt
+         WHERE a.companion IS NULL
+           AND a.status = com.example.supportorganizationsapp.enums.StatusEnum.NEW
+           AND dt.id IN :stationIds
+         ORDER BY a.scheduledAt ASC
         """)
-    List<Application> findByRoute(@Param("departureStation") String departureStation,
-                                  @Param("destinationStation") String destinationStation);
+    List<ApplicationView> findWithoutCompanionByDestinationStation(@Param("stationIds") Collection<Long> stationIds);
 
     @Query("""
-        SELECT a FROM application a 
-        WHERE a.status IN (
-            com.example.supportorganizationsapp.enums.StatusEnum.ACCEPTED,
-            com.example.supportorganizationsapp.enums.StatusEnum.INPROGRESS,
-            com.example.supportorganizationsapp.enums.StatusEnum.OVERDUE
-        )
-        ORDER BY a.date ASC, a.time ASC
+        SELECT new com.example.supportorganizationsapp.repository.projection.ApplicationView(
+               a.id, a.scheduledAt, ds.name, dt.name, a.comment, a.status, a.passenger.id, a.companion.id)
+          FROM application a
+          LEFT JOIN a.departureStation ds
+          LEFT JOIN a.destinationStation dt
+         WHERE a.companion IS NULL
+           AND a.status = com.example.supportorganizationsapp.enums.StatusEnum.NEW
+           AND (ds.id IN :stationIds
+                OR dt.id IN :stationIds)
+         ORDER BY a.scheduledAt ASC
         """)
-    List<Application> findActiveApplications();
+    List<ApplicationView> findWithoutCompanionByAnyStation(@Param("stationIds") Collection<Long> stationIds);
 
     @Query("""
-        SELECT a FROM application a 
-        WHERE a.companion IS NULL 
-          AND a.status = com.example.supportorganizationsapp.enums.StatusEnum.NEW
-          AND LOWER(a.departureStation) LIKE LOWER(CONCAT('%', :station, '%'))
-        ORDER BY a.date ASC, a.time ASC
+        SELECT new com.example.supportorganizationsapp.repository.projection.ApplicationView(
+               a.id, a.scheduledAt, ds.name, dt.name, a.comment, a.status, a.passenger.id, a.companion.id)
+          FROM application a
+          LEFT JOIN a.departureStation ds
+          LEFT JOIN a.destinationStation dt
+         WHERE a.companion IS NULL
+           AND a.status = com.example.supportorganizationsapp.enums.StatusEnum.NEW
+           AND ds.id IN :departureStationIds
+           AND dt.id IN :destinationStationIds
+         ORDER BY a.scheduledAt ASC
         """)
-    List<Application> findWithoutCompanionByDepartureStation(@Param("station") String station);
+    List<ApplicationView> findWithoutCompanionByRoute(@Param("departureStationIds") Collection<Long> departureStationIds,
+                                                      @Param("destinationStationIds") Collection<Long> destinationStationIds);
 
     @Query("""
-        SELECT a FROM application a 
-        WHERE a.companion IS NULL 
-          AND a.status = com.example.supportorganizationsapp.enums.StatusEnum.NEW
-          AND LOWER(a.destinationStation) LIKE LOWER(CONCAT('%', :station, '%'))
-        ORDER BY a.date ASC, a.time ASC
+        SELECT new com.example.supportorganizationsapp.repository.projection.ApplicationView(
+               a.id, a.scheduledAt, ds.name, dt.name, a.comment, a.status, a.passenger.id, a.companion.id)
+          FROM application a
+          LEFT JOIN a.departureStation ds
+          LEFT JOIN a.destinationStation dt
+         WHERE a.status = :status
+           AND a.scheduledAt >= :from
+           AND a.scheduledAt < :to
+         ORDER BY a.scheduledAt ASC
         """)
-    List<Application> findWithoutCompanionByDestinationStation(@Param("station") String station);
+    List<ApplicationView> findByStatusScheduledBetween(@Param("status") StatusEnum status,
+                                                       @Param("from") LocalDateTime from,
+                                                       @Param("to") LocalDateTime to);
 
     @Query("""
-        SELECT a FROM application a 
-        WHERE a.companion IS NULL 
-          AND a.status = com.example.supportorganizationsapp.enums.StatusEnum.NEW
-          AND (LOWER(a.departureStation) LIKE LOWER(CONCAT('%', :station, '%'))
-               OR LOWER(a.destinationStation) LIKE LOWER(CONCAT('%', :station, '%')))
-        ORDER BY a.date ASC, a.time ASC
+        SELECT new com.example.supportorganizationsapp.repository.projection.ApplicationView(
+               a.id, a.scheduledAt, ds.name, dt.name, a.comment, a.status, a.passenger.id, a.companion.id)
+          FROM application a
+          LEFT JOIN a.departureStation ds
+          LEFT JOIN a.destinationStation dt
+         WHERE a.status = :status
+           AND ds.id IN :departureStationIds
+           AND dt.id IN :destinationStationIds
+         ORDER BY a.scheduledAt DESC
         """)
-    List<Application> findWithoutCompanionByAnyStation(@Param("station") String station);
+    List<ApplicationView> findByStatusAndRoute(@Param("status") StatusEnum status,
+                                               @Param("departureStationIds") Collection<Long> departureStationIds,
+                                               @Param("destinationStationIds") Collection<Long> destinationStationIds);
 
     @Query("""
-        SELECT a FROM application a 
-        WHERE a.companion IS NULL 
-          AND a.status = com.example.supportorganizationsapp.enums.StatusEnum.NEW
-          AND LOWER(a.departureStation) LIKE LOWER(CONCAT('%', :departureStation, '%'))
-          AND LOWER(a.destinationStation) LIKE LOWER(CONCAT('%', :destinationStation, '%'))
-        ORDER BY a.date ASC, a.time ASC
+        SELECT new com.example.supportorganizationsapp.repository.projection.ApplicationView(
+               a.id, a.scheduledAt, ds.name, dt.name, a.comment, a.status, a.passenger.id, a.companion.id)
+          FROM application a
+          LEFT JOIN a.departureStation ds
+          LEFT JOIN a.destinationStation dt
+         WHERE a.companion.id = :companionId
+           AND a.status IN (
+               com.example.supportorganizationsapp.enums.StatusEnum.ACCEPTED,
+               com.example.supportorganizationsapp.enums.StatusEnum.INPROGRESS,
+               com.example.supportorganizationsapp.enums.StatusEnum.OVERDUE
+           )
+         ORDER BY a.scheduledAt ASC
         """)
-    List<Application> findWithoutCompanionByRoute(@Param("departureStation") String departureStation,
-                                                  @Param("destinationStation") String destinationStation);
+    List<ApplicationView> findActiveApplicationsByCompanion(@Param("companionId") Long companionId);
 
+    @Modifying
+    @Transactional
     @Query("""
-        SELECT a FROM application a 
-        WHERE a.status = :status 
-          AND a.date = :date
-        ORDER BY a.time ASC
+        UPDATE application a
+           SET a.companion = :companion,
+               a.status = :status
+         WHERE a.id = :id
+           AND a.companion IS NULL
+           AND a.status = com.example.supportorganizationsapp.enums.StatusEnum.NEW
         """)
-    List<Application> findByStatusAndDate(@Param("status") StatusEnum status, @Param("date") String date);
+    int claim(@Param("id") Long id, @Param("companion") User companion, @Param("status") StatusEnum status);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE application a SET a.status = :target WHERE a.id = :id AND a.status IN :sources")
+    int transition(@Param("id") Long id,
+                   @Param("sources") Collection<StatusEnum> sources,
+                   @Param("target") StatusEnum target);
+
+    @Query("SELECT a.status FROM application a WHERE a.id = :id")
+    Optional<StatusEnum> findStatusById(@Param("id") Long id);
 
     @Query("""
-        SELECT a FROM application a 
-        WHERE a.status = :status
-          AND LOWER(a.departureStation) LIKE LOWER(CONCAT('%', :departureStation, '%'))
-          AND LOWER(a.destinationStation) LIKE LOWER(CONCAT('%', :destinationStation, '%'))
-        ORDER BY a.date DESC, a.time DESC
+        SELECT new com.example.supportorganizationsapp.repository.projection.OverdueCandidateView(
+               a.id, a.scheduledAt, p.email, c.email)
+          FROM application a
+          JOIN a.passenger p
+          LEFT JOIN a.companion c
+         WHERE a.status IN :statuses
+           AND a.scheduledAt <= :cutoff
+           AND (a.scheduledAt > :afterScheduledAt
+                OR (a.scheduledAt = :afterScheduledAt AND a.id > :afterId))
+         ORDER BY a.scheduledAt ASC, a.id ASC
         """)
-    List<Application> findByStatusAndRoute(@Param("status") StatusEnum status,
-                                           @Param("departureStation") String departureStation,
-                                           @Param("destinationStation") String destinationStation);
+    List<OverdueCandidateView> findOverdueCandidates(@Param("statuses") Collection<StatusEnum> statuses,
+                                                     @Param("cutoff") LocalDateTime cutoff,
+                                                     @Param("afterScheduledAt") LocalDateTime afterScheduledAt,
+                                                     @Param("afterId") Long afterId,
+                                                     Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE application a SET a.status = :target WHERE a.id IN :ids AND a.status IN :sources")
+    int transitionAll(@Param("ids") Collection<Long> ids,
+                      @Param("sources") Collection<StatusEnum> sources,
+                      @Param("target") StatusEnum target);
 
+    @Modifying
+    @Transactional
     @Query("""
-        SELECT a FROM application a 
-        WHERE a.companion.id = :companionId
-          AND a.status IN (
-              com.example.supportorganizationsapp.enums.StatusEnum.ACCEPTED,
-              com.example.supportorganizationsapp.enums.StatusEnum.INPROGRESS,
-              com.example.supportorganizationsapp.enums.StatusEnum.OVERDUE
-          )
-        ORDER BY a.date ASC, a.time ASC
+        UPDATE application a
+           SET a.status = :target
+         WHERE a.id IN :ids
+           AND a.passenger.id = :passengerId
+           AND a.status IN :sources
         """)
-    List<Application> findActiveApplicationsByCompanion(@Param("companionId") Long companionId);
-}
+    int transitionAllOfPassenger(@Param("ids") Collection<Long> ids,
+                                 @Param("passengerId") Long passengerId,
+                                 @Param("sources") Collection<StatusEnum> sources,
+                                 @Param("target") StatusEnum target);
+
+    Optional<Application> findByIdAndPassengerId(Long id, Long passengerId);
+
+    List<Application> findAllByIdInAndPassengerId(Collection<Long> ids, Long passengerId);
 
+    @Query("SELECT a.id FROM application a WHERE a.id IN :ids AND a.passenger.id = :passengerId")
+    List<Long> findIdsOfPassenger(@Param("ids") Collection<Long> ids, @Param("passengerId") Long passengerId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a.id FROM application a WHERE a.id IN :ids AND a.status IN :statuses")
+    List<Long> lockIdsWithStatus(@Param("ids") Collection<Long> ids, @Param("statuses") Collection<StatusEnum> statuses);
+}
@@ -0,0 +1,13 @@
+package com.example.supportorganizationsapp.repository;
+
+import com.example.supportorganizationsapp.models.Application;
+import com.example.supportorganizationsapp.repository.projection.ApplicationView;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface ApplicationSearchRepository {
+
+    List<ApplicationView> findViews(Specification<Application> specification, Sort sort, int limit);
+}
@@ -0,0 +1,53 @@
+package com.example.supportorganizationsapp.repository;
+
+import com.example.supportorganizationsapp.models.Application;
+import com.example.supportorganizationsapp.models.Station;
+import com.example.supportorganizationsapp.repository.projection.ApplicationView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+class ApplicationSearchRepositoryImpl implements ApplicationSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ApplicationView> findViews(Specification<Application> specification, Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ApplicationView> query = cb.createQuery(ApplicationView.class);
+        Root<Application> root = query.from(Application.class);
+        Join<Application, Station> departure = root.join("departureStation", JoinType.LEFT);
+        Join<Application, Station> destination = root.join("destinationStation", JoinType.LEFT);
+
+        query.select(cb.construct(ApplicationView.class,
+                root.get("id"),
+                root.get("scheduledAt"),
+                departure.get("name"),
+                destination.get("name"),
+                root.get("comment"),
+                root.get("status"),
+                root.get("passenger").get("id"),
+                root.get("companion").get("id")));
+
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
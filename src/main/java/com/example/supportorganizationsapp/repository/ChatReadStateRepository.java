@@ -0,0 +1,40 @@
+package com.example.supportorganizationsapp.repository;
+
+import com.example.supportorganizationsapp.models.ChatReadState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface ChatReadStateRepository extends JpaRepository<ChatReadState, Long> {
+
+    @Query("SELECT s.lastReadMessageId FROM chat_read_state s WHERE s.chat.id = :chatId AND s.user.id = :userId")
+    Optional<Long> findLastReadMessageId(@Param("chatId") Long chatId, @Param("userId") Long userId);
+
+    @Query("""
+        SELECT COUNT(m) FROM message m
+         WHERE m.chat.id = :chatId
+           AND m.user.id <> :userId
+           AND m.id > COALESCE((SELECT s.lastReadMessageId FROM chat_read_state s
+                                 WHERE s.chat.id = :chatId AND s.user.id = :userId), 0)
+        """)
+    long countUnread(@Param("chatId") Long chatId, @Param("userId") Long userId);
+
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE chat_read_state s
+           SET s.lastReadMessageId = :messageId
+         WHERE s.chat.id = :chatId
+           AND s.user.id = :userId
+           AND (s.lastReadMessageId IS NULL OR s.lastReadMessageId < :messageId)
+        """)
+    int advanceWatermark(@Param("chatId") Long chatId,
+                         @Param("userId") Long userId,
+                         @Param("messageId") Long messageId);
+}
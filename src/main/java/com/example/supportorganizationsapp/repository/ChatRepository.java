@@ -2,11 +2,18 @@ package com.example.supportorganizationsapp.repository;
 
 import com.example.supportorganizationsapp.models.Chat;
 import com.example.supportorganizationsapp.models.User;
+import com.example.supportorganizationsapp.repository.projection.ChatParticipantView;
+import com.example.supportorganizationsapp.repository.projection.ChatSummaryView;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,22 +21,115 @@ import java.util.Optional;
 @Repository
 public interface ChatRepository extends JpaRepository<Chat, Long> {
 
-    @Query("select c from chat c join c.users u where u.id = :userId")
+    @Override
+    @EntityGraph("chat-with-members")
+    Optional<Chat> findById(Long id);
+
+    @EntityGraph("chat-header")
+    Optional<Chat> findHeaderById(Long id);
+
+    @EntityGraph("chat-header")
+    @Query("select c from chat c join c.users u where u.id = :userId order by c.lastActivityAt desc nulls last, c.id desc")
     List<Chat> findChatByUserId(@Param("userId") Long userId);
 
+    boolean existsByIdAndUsers_Id(Long chatId, Long userId);
+
+    @Query("select c.lastMessageId from chat c where c.id = :chatId")
+    Optional<Long> findLastMessageIdById(@Param("chatId") Long chatId);
+
+    @EntityGraph("chat-header")
     @Query("SELECT c FROM chat c WHERE c.isGroup = false AND :user2 MEMBER OF c.users AND :reqUser MEMBER OF c.users")
     Optional<Chat> findSingleChatByUsers(@Param("user2") User user2, @Param("reqUser") User reqUser);
 
+    @EntityGraph("chat-header")
     @Query("SELECT c FROM chat c WHERE c.isGroup = true AND LOWER(c.chatName) LIKE LOWER(CONCAT('%', :name, '%'))")
     List<Chat> findChatsByNameContaining(@Param("name") String name);
 
+    @EntityGraph("chat-header")
     @Query("SELECT c FROM chat c WHERE :user MEMBER OF c.users AND LOWER(c.chatName) LIKE LOWER(CONCAT('%', :name, '%'))")
     List<Chat> findChatsByNameContainingAndUser(@Param("name") String name, @Param("user") User user);
 
+    @EntityGraph("chat-header")
     @Query("SELECT c FROM chat c WHERE :user1 MEMBER OF c.users AND :user2 MEMBER OF c.users")
     List<Chat> findChatsByTwoUsers(@Param("user1") User user1, @Param("user2") User user2);
 
+    @EntityGraph("chat-header")
     @Query("SELECT c FROM chat c WHERE :targetUser MEMBER OF c.users AND :requestingUser MEMBER OF c.users")
     List<Chat> findChatsWithUserByRequestingUser(@Param("targetUser") User targetUser, @Param("requestingUser") User requestingUser);
 
+    @Query("""
+        SELECT c.id AS id,
+               c.chatName AS chatName,
+               c.isGroup AS isGroup,
+               lm.id AS lastMessageId,
+               SUBSTRING(lm.content, 1, 100) AS lastMessagePreview,
+               lm.user.id AS lastMessageUserId,
+               c.lastActivityAt AS lastActivity,
+               (SELECT COUNT(um) FROM message um
+                 WHERE um.chat = c
+                   AND um.user.id <> :userId
+                   AND um.id > COALESCE(rs.lastReadMessageId, 0)) AS unreadCount
+          FROM chat c
+          JOIN c.users u
+          LEFT JOIN c.readStates rs ON rs.user.id = :userId
+          LEFT JOIN message lm ON lm.id = c.lastMessageId
+         WHERE u.id = :userId
+         ORDER BY c.lastActivityAt DESC NULLS LAST, c.id DESC
+        """)
+    List<ChatSummaryView> findChatSummariesByUserId(@Param("userId") Long userId);
+
+    @Query("""
+        SELECT c.id AS chatId,
+               u.id AS id,
+               u.email AS email,
+               u.phoneNumber AS phoneNumber,
+               u.firstName AS firstName,
+               u.lastName AS lastName,
+               u.roleEnum AS roleEnum
+          FROM chat c
+          JOIN c.users u
+         WHERE c.id IN :chatIds
+        """)
+    List<ChatParticipantView> findParticipantsByChatIds(@Param("chatIds") Collection<Long> chatIds);
+
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE chat c
+           SET c.lastMessageId = :messageId, c.lastActivityAt = :activityAt
+         WHERE c.id = :chatId
+           AND (c.lastMessageId IS NULL OR c.lastMessageId < :messageId)
+        """)
+    int updateLastMessage(@Param("chatId") Long chatId,
+                          @Param("messageId") Long messageId,
+                          @Param("activityAt") LocalDateTime activityAt);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE chat c SET c.lastActivityAt = :activityAt WHERE c.id = :chatId AND c.lastMessageId = :messageId")
+    int touchLastActivity(@Param("chatId") Long chatId,
+                          @Param("messageId") Long messageId,
+                          @Param("activityAt") LocalDateTime activityAt);
+
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE chat c
+           SET c.lastMessageId = (SELECT MAX(m.id) FROM message m WHERE m.chat.id = c.id),
+               c.lastActivityAt = (SELECT MAX(m.timeStamp) FROM message m WHERE m.chat.id = c.id)
+         WHERE c.id = :chatId
+           AND c.lastMessageId = :removedMessageId
+        """)
+    int refreshLastMessage(@Param("chatId") Long chatId, @Param("removedMessageId") Long removedMessageId);
+
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE chat c
+           SET c.lastMessageId = (SELECT MAX(m.id) FROM message m WHERE m.chat.id = c.id),
+               c.lastActivityAt = (SELECT MAX(m.timeStamp) FROM message m WHERE m.chat.id = c.id)
+         WHERE c.lastMessageId IS NULL
+           AND EXISTS (SELECT 1 FROM message m WHERE m.chat.id = c.id)
+        """)
+    int backfillLastMessage();
 }
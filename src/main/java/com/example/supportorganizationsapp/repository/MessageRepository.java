@@ -1,20 +1,63 @@
 package com.example.supportorganizationsapp.repository;
 
 import com.example.supportorganizationsapp.models.Message;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface MessageRepository extends JpaRepository<Message, Long> {
 
+    @Override
+    @EntityGraph("message-with-author")
+    Optional<Message> findById(Long id);
+
+    @EntityGraph("message-with-author")
     List<Message> findByChat_Id(Long chatId);
+
+    @EntityGraph("message-with-author")
     @Query("SELECT m FROM message m WHERE m.chat.id = :chatId AND LOWER(m.content) LIKE LOWER(CONCAT('%', :searchText, '%')) ORDER BY m.timeStamp DESC")
     List<Message> findByChat_IdAndContentContainingIgnoreCase(@Param("chatId") Long chatId, @Param("searchText") String searchText);
 
+    @EntityGraph("message-with-author")
     @Query("SELECT m FROM message m WHERE m.chat.id = :chatId AND m.user.id = :userId ORDER BY m.timeStamp DESC")
     List<Message> findByChat_IdAndUser_IdOrderByTimeStampDesc(@Param("chatId") Long chatId, @Param("userId") Long userId);
+
+    @Query("SELECT m.timeStamp FROM message m WHERE m.id = :messageId AND m.chat.id = :chatId")
+    Optional<LocalDateTime> findTimeStampByIdAndChatId(@Param("messageId") Long messageId, @Param("chatId") Long chatId);
+
+    @EntityGraph("message-with-author")
+    @Query("SELECT m FROM message m WHERE m.chat.id = :chatId ORDER BY m.timeStamp DESC, m.id DESC")
+    List<Message> findLatestByChatId(@Param("chatId") Long chatId, Pageable pageable);
+
+    @EntityGraph("message-with-author")
+    @Query("""
+        SELECT m FROM message m
+        WHERE m.chat.id = :chatId
+          AND (m.timeStamp < :timeStamp OR (m.timeStamp = :timeStamp AND m.id < :messageId))
+        ORDER BY m.timeStamp DESC, m.id DESC
+        """)
+    List<Message> findPageBefore(@Param("chatId") Long chatId,
+                                 @Param("timeStamp") LocalDateTime timeStamp,
+                                 @Param("messageId") Long messageId,
+                                 Pageable pageable);
+
+    @EntityGraph("message-with-author")
+    @Query("""
+        SELECT m FROM message m
+        WHERE m.chat.id = :chatId
+          AND (m.timeStamp > :timeStamp OR (m.timeStamp = :timeStamp AND m.id > :messageId))
+        ORDER BY m.timeStamp ASC, m.id ASC
+        """)
+    List<Message> findPageAfter(@Param("chatId") Long chatId,
+                                @Param("timeStamp") LocalDateTime timeStamp,
+                                @Param("messageId") Long messageId,
+                                Pageable pageable);
 }
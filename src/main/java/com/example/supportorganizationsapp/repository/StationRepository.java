@@ -0,0 +1,13 @@
+package com.example.supportorganizationsapp.repository;
+
+import com.example.supportorganizationsapp.models.Station;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface StationRepository extends JpaRepository<Station, Long> {
+
+    Optional<Station> findByNormalizedName(String normalizedName);
+}
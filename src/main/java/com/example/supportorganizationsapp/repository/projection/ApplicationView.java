@@ -0,0 +1,17 @@
+package com.example.supportorganizationsapp.repository.projection;
+
+import com.example.supportorganizationsapp.enums.StatusEnum;
+
+import java.time.LocalDateTime;
+
+public record ApplicationView(
+        Long id,
+        LocalDateTime scheduledAt,
+        String departureStation,
+        String destinationStation,
+        String comment,
+        StatusEnum status,
+        Long passengerId,
+        Long companionId
+) {
+}
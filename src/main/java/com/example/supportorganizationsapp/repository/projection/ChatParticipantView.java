@@ -0,0 +1,13 @@
+package com.example.supportorganizationsapp.repository.projection;
+
+import com.example.supportorganizationsapp.enums.RoleEnum;
+
+public interface ChatParticipantView {
+    Long getChatId();
+    Long getId();
+    String getEmail();
+    String getPhoneNumber();
+    String getFirstName();
+    String getLastName();
+    RoleEnum getRoleEnum();
+}
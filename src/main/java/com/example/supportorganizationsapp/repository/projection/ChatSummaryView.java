@@ -0,0 +1,14 @@
+package com.example.supportorganizationsapp.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface ChatSummaryView {
+    Long getId();
+    String getChatName();
+    Boolean getIsGroup();
+    Long getLastMessageId();
+    String getLastMessagePreview();
+    Long getLastMessageUserId();
+    LocalDateTime getLastActivity();
+    Long getUnreadCount();
+}
@@ -0,0 +1,15 @@
+package com.example.supportorganizationsapp.repository.projection;
+
+import java.time.LocalDateTime;
+
+public record OpenApplicationView(
+        Long id,
+        LocalDateTime scheduledAt,
+        Long departureStationId,
+        String departureStation,
+        Long destinationStationId,
+        String destinationStation,
+        String comment,
+        Long passengerId
+) {
+}
@@ -0,0 +1,11 @@
+package com.example.supportorganizationsapp.repository.projection;
+
+import java.time.LocalDateTime;
+
+public record OverdueCandidateView(
+        Long id,
+        LocalDateTime scheduledAt,
+        String passengerEmail,
+        String companionEmail
+) {
+}
@@ -0,0 +1,75 @@
+package com.example.supportorganizationsapp.repository.specification;
+
+import com.example.supportorganizationsapp.enums.StatusEnum;
+import com.example.supportorganizationsapp.models.Application;
+import com.example.supportorganizationsapp.utils.ApplicationCursor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public final class ApplicationSpecifications {
+
+    private ApplicationSpecifications() {
+    }
+
+    public static Specification<Application> statusIn(Collection<StatusEnum> statuses) {
+        return (root, query, cb) -> root.get("status").in(statuses);
+    }
+
+    public static Specification<Application> departureStationIn(Collection<Long> stationIds) {
+        return (root, query, cb) -> root.get("departureStation").get("id").in(stationIds);
+    }
+
+    public static Specification<Application> destinationStationIn(Collection<Long> stationIds) {
+        return (root, query, cb) -> root.get("destinationStation").get("id").in(stationIds);
+    }
+
+    public static Specification<Application> anyStationIn(Collection<Long> stationIds) {
+        return departureStationIn(stationIds).or(destinationStationIn(stationIds));
+    }
+
+    public static Specification<Application> scheduledFrom(LocalDateTime from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("scheduledAt"), from);
+    }
+
+    public static Specification<Application> scheduledBefore(LocalDateTime to) {
+        return (root, query, cb) -> cb.lessThan(root.get("scheduledAt"), to);
+    }
+
+    public static Specification<Application> hasCompanion(boolean hasCompanion) {
+        return (root, query, cb) -> hasCompanion
+                ? cb.isNotNull(root.get("companion"))
+                : cb.isNull(root.get("companion"));
+    }
+
+    public static Specification<Application> passengerIs(Long passengerId) {
+        return (root, query, cb) -> cb.equal(root.get("passenger").get("id"), passengerId);
+    }
+
+    public static Specification<Application> companionIs(Long companionId) {
+        return (root, query, cb) -> cb.equal(root.get("companion").get("id"), companionId);
+    }
+
+    public static Specification<Application> scheduledAfterCursor(ApplicationCursor cursor, Sort.Direction direction) {
+        return (root, query, cb) -> {
+            if (direction.isAscending()) {
+                return cb.or(
+                        cb.greaterThan(root.get("scheduledAt"), cursor.scheduledAt()),
+                        cb.and(cb.equal(root.get("scheduledAt"), cursor.scheduledAt()),
+                                cb.greaterThan(root.get("id"), cursor.id())));
+            }
+            return cb.or(
+                    cb.lessThan(root.get("scheduledAt"), cursor.scheduledAt()),
+                    cb.and(cb.equal(root.get("scheduledAt"), cursor.scheduledAt()),
+                            cb.lessThan(root.get("id"), cursor.id())));
+        };
+    }
+
+    public static Specification<Application> idAfterCursor(ApplicationCursor cursor, Sort.Direction direction) {
+        return (root, query, cb) -> direction.isAscending()
+                ? cb.greaterThan(root.get("id"), cursor.id())
+                : cb.lessThan(root.get("id"), cursor.id());
+    }
+}
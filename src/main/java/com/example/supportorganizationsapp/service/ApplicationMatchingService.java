@@ -0,0 +1,12 @@
+package com.example.supportorganizationsapp.service;
+
+import com.example.supportorganizationsapp.dto.response.application.ApplicationResponse;
+import com.example.supportorganizationsapp.models.Application;
+
+import java.util.List;
+
+public interface ApplicationMatchingService {
+    List<ApplicationResponse> findMatches(String station, String date, String time, Integer windowMinutes, Integer limit);
+    void refresh(Application application);
+    void remove(Long applicationId);
+}
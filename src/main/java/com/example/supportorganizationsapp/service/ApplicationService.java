@@ -1,7 +1,10 @@
 package com.example.supportorganizationsapp.service;
 
+import com.example.supportorganizationsapp.dto.request.application.ApplicationSearchRequest;
+import com.example.supportorganizationsapp.dto.request.application.BatchUpdateApplicationRequest;
 import com.example.supportorganizationsapp.dto.request.application.CreateApplicationRequest;
 import com.example.supportorganizationsapp.dto.request.application.UpdateApplicationRequest;
+import com.example.supportorganizationsapp.dto.response.application.ApplicationPageResponse;
 import com.example.supportorganizationsapp.dto.response.application.ApplicationResponse;
 import com.example.supportorganizationsapp.enums.StatusEnum;
 
@@ -9,11 +12,14 @@ import java.util.List;
 
 public interface ApplicationService {
     ApplicationResponse createApplication(CreateApplicationRequest application);
+    List<ApplicationResponse> createApplications(List<CreateApplicationRequest> applications);
     ApplicationResponse updateApplication(Long id, UpdateApplicationRequest application);
+    List<ApplicationResponse> updateApplications(List<BatchUpdateApplicationRequest> applications);
     ApplicationResponse getApplicationById(Long id);
     List<ApplicationResponse> getAllApplications();
     void deleteApplication(Long id);
     ApplicationResponse cancelApplication(Long id);
+    List<ApplicationResponse> cancelApplications(List<Long> ids);
     ApplicationResponse acceptApplication(Long id, Long companionId);
     ApplicationResponse rejectApplication(Long id);
     ApplicationResponse startProgress(Long id);
@@ -36,4 +42,5 @@ public interface ApplicationService {
     List<ApplicationResponse> getApplicationsWithoutCompanionByRoute(String departureStation, String destinationStation);
     List<ApplicationResponse> getApplicationsByStatusAndDate(StatusEnum status, String date);
     List<ApplicationResponse> getApplicationsByStatusAndRoute(StatusEnum status, String departureStation, String destinationStation);
+    ApplicationPageResponse searchApplications(ApplicationSearchRequest request);
 }
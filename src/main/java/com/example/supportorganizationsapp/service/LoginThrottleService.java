@@ -0,0 +1,7 @@
+package com.example.supportorganizationsapp.service;
+
+public interface LoginThrottleService {
+    void acquireAttempt(String email, String clientIp);
+    void releaseAttempt(String email);
+    void loginSucceeded(String email);
+}
@@ -8,10 +8,12 @@ import com.example.supportorganizationsapp.models.Message;
 import com.example.supportorganizationsapp.models.User;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface MessageService {
-    Message sendMessage(SendMessageRequestDTO req, Long userId) throws UserException, ChatException;
-    List<Message> getChatMessages(Long chatId, User reqUser) throws UserException, ChatException;
+    Message sendMessage(SendMessageRequestDTO req, Long userId) throws UserException, ChatException, MessageException;
+    CompletableFuture<Message> submitMessage(SendMessageRequestDTO req, Long userId) throws UserException, ChatException, MessageException;
+    List<Message> getChatMessages(Long chatId, User reqUser, Long beforeId, Long afterId, int size) throws UserException, ChatException, MessageException;
     Message findMessageById(Long messageId) throws MessageException;
     void deleteMessageById(Long messageId, User reqUser) throws UserException, MessageException;
     Message updateMessageContent(Long messageId, String newContent, Long userId) throws UserException, MessageException;
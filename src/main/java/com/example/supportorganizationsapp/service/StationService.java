@@ -0,0 +1,13 @@
+package com.example.supportorganizationsapp.service;
+
+import com.example.supportorganizationsapp.dto.response.StationDTO;
+import com.example.supportorganizationsapp.models.Station;
+
+import java.util.List;
+import java.util.Set;
+
+public interface StationService {
+    Station resolveStation(String name);
+    Set<Long> findStationIds(String query);
+    List<StationDTO> autocomplete(String query, int limit);
+}
@@ -11,6 +11,8 @@ import java.util.List;
 public interface UserService {
     User findUserById(Long id) throws UserException;
     User findUserByProfile(String jwt) throws UserException;
+    User findProfileByEmail(String email) throws UserException;
+    User findProfileById(Long id) throws UserException;
     User updateUser(Long id, UpdateUserRequestDTO request) throws UserException;
     List<User> searchUserByName(String name);
     List<ApplicationResponse> getUserApplications(Long userId) throws UserException;
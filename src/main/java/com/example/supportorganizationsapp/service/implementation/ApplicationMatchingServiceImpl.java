@@ -0,0 +1,140 @@
+package com.example.supportorganizationsapp.service.implementation;
+
+import com.example.supportorganizationsapp.dto.response.application.ApplicationResponse;
+import com.example.supportorganizationsapp.models.Application;
+import com.example.supportorganizationsapp.repository.ApplicationRepository;
+import com.example.supportorganizationsapp.service.ApplicationMatchingService;
+import com.example.supportorganizationsapp.service.StationService;
+import com.example.supportorganizationsapp.utils.ScheduleUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+@Service
+@RequiredArgsConstructor
+public class ApplicationMatchingServiceImpl implements ApplicationMatchingService {
+
+    private static final int DEFAULT_WINDOW_MINUTES = 120;
+    private static final int MAX_WINDOW_MINUTES = 24 * 60;
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 50;
+
+    private final ApplicationRepository applicationRepository;
+    private final StationService stationService;
+
+    private volatile OpenApplicationIndex index;
+
+    // Updates applied while a rebuild reads its snapshot, replayed on the new index before it is published.
+    private List<Consumer<OpenApplicationIndex>> pendingUpdates;
+
+    @Override
+    public List<ApplicationResponse> findMatches(String station, String date, String time, Integer windowMinutes, Integer limit) {
+        if (station == null || station.trim().isEmpty()) {
+            throw new IllegalArgumentException("Station cannot be null or empty");
+        }
+        Set<Long> stationIds = stationService.findStationIds(station.trim());
+        if (stationIds.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        LocalDate day = date != null && !date.trim().isEmpty() ? ScheduleUtil.parseDate(date) : now.toLocalDate();
+        LocalTime at = time != null && !time.trim().isEmpty() ? ScheduleUtil.parseTime(time) : now.toLocalTime();
+        int window = windowMinutes == null || windowMinutes <= 0
+                ? DEFAULT_WINDOW_MINUTES
+                : Math.min(windowMinutes, MAX_WINDOW_MINUTES);
+        int size = limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+
+        return index().match(stationIds, LocalDateTime.of(day, at), Duration.ofMinutes(window), size).stream()
+                .map(OpenApplicationIndex.Entry::toResponse)
+                .toList();
+    }
+
+    @Override
+    public void refresh(Application application) {
+        if (OpenApplicationIndex.isOpen(application)) {
+            OpenApplicationIndex.Entry entry = OpenApplicationIndex.Entry.of(application);
+            afterCommit(target -> target.put(entry));
+        } else {
+            remove(application.getId());
+        }
+    }
+
+    @Override
+    public void remove(Long applicationId) {
+        afterCommit(target -> target.remove(applicationId));
+    }
+
+    // The index lives in this node's memory and only sees writes made here, so it is reloaded to pick up other nodes.
+    @Scheduled(initialDelayString = "${applications.matching.rebuild-interval:PT5M}",
+            fixedDelayString = "${applications.matching.rebuild-interval:PT5M}")
+    public void rebuildIndex() {
+        synchronized (this) {
+            if (index == null || pendingUpdates != null) {
+                return;
+            }
+            pendingUpdates = new ArrayList<>();
+        }
+        OpenApplicationIndex rebuilt;
+        try {
+            rebuilt = OpenApplicationIndex.of(applicationRepository.findOpenForMatching());
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pendingUpdates = null;
+            }
+            throw e;
+        }
+        synchronized (this) {
+            // The snapshot may predate updates committed while it was read; replaying them in order is idempotent.
+            pendingUpdates.forEach(update -> update.accept(rebuilt));
+            pendingUpdates = null;
+            index = rebuilt;
+        }
+    }
+
+    // A rolled back write must not leave its change in the index.
+    private void afterCommit(Consumer<OpenApplicationIndex> update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(update);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(update);
+            }
+        });
+    }
+
+    private synchronized void apply(Consumer<OpenApplicationIndex> update) {
+        update.accept(index());
+        if (pendingUpdates != null) {
+            pendingUpdates.add(update);
+        }
+    }
+
+    private OpenApplicationIndex index() {
+        OpenApplicationIndex current = index;
+        if (current == null) {
+            synchronized (this) {
+                if (index == null) {
+                    index = OpenApplicationIndex.of(applicationRepository.findOpenForMatching());
+                }
+                current = index;
+            }
+        }
+        return current;
+    }
+}
@@ -1,92 +1,191 @@
 package com.example.supportorganizationsapp.service.implementation;
 
+import com.example.supportorganizationsapp.dto.request.application.ApplicationSearchRequest;
+import com.example.supportorganizationsapp.dto.request.application.BatchUpdateApplicationRequest;
 import com.example.supportorganizationsapp.dto.request.application.CreateApplicationRequest;
 import com.example.supportorganizationsapp.dto.request.application.UpdateApplicationRequest;
+import com.example.supportorganizationsapp.dto.response.application.ApplicationPageResponse;
 import com.example.supportorganizationsapp.dto.response.application.ApplicationResponse;
+import com.example.supportorganizationsapp.enums.ApplicationSortEnum;
 import com.example.supportorganizationsapp.enums.StatusEnum;
+import com.example.supportorganizationsapp.exception.ApplicationConflictException;
+import com.example.supportorganizationsapp.exception.ApplicationNotFoundException;
 import com.example.supportorganizationsapp.models.Application;
+import com.example.supportorganizationsapp.models.Station;
 import com.example.supportorganizationsapp.models.User;
 import com.example.supportorganizationsapp.repository.ApplicationRepository;
 import com.example.supportorganizationsapp.repository.UserRepository;
+import com.example.supportorganizationsapp.repository.projection.ApplicationView;
+import com.example.supportorganizationsapp.repository.specification.ApplicationSpecifications;
+import com.example.supportorganizationsapp.service.ApplicationMatchingService;
 import com.example.supportorganizationsapp.service.ApplicationService;
+import com.example.supportorganizationsapp.service.StationService;
+import com.example.supportorganizationsapp.utils.ApplicationCursor;
 import com.example.supportorganizationsapp.utils.AuthUtil;
+import com.example.supportorganizationsapp.utils.ScheduleUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
-
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class ApplicationServiceImpl implements ApplicationService {
 
+    private static final int DEFAULT_SEARCH_PAGE_SIZE = 20;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_SIZE = 500;
+
     private final ApplicationRepository applicationRepository;
     private final UserRepository userRepository;
+    private final StationService stationService;
+    private final ApplicationMatchingService matchingService;
     private final AuthUtil authUtil;
 
     @Autowired
-    public ApplicationServiceImpl(ApplicationRepository applicationRepository, UserRepository userRepository, AuthUtil authUtil) {
+    public ApplicationServiceImpl(ApplicationRepository applicationRepository, UserRepository userRepository,
+                                  StationService stationService, ApplicationMatchingService matchingService,
+                                  AuthUtil authUtil) {
         this.applicationRepository = applicationRepository;
         this.userRepository = userRepository;
+        this.stationService = stationService;
+        this.matchingService = matchingService;
         this.authUtil = authUtil;
     }
 
     @Override
     public ApplicationResponse createApplication(CreateApplicationRequest applicationRequest) {
-        String passengerEmail = authUtil.getPrincipalEmail();
-        User passenger = userRepository.findByEmail(passengerEmail)
-                .orElseThrow(() -> new IllegalArgumentException("Passenger not found"));
-
-        Application application = new Application(
-                applicationRequest.getDate(),
-                applicationRequest.getTime(),
-                applicationRequest.getDepartureStation(),
-                applicationRequest.getDestinationStation(),
-                applicationRequest.getComment(),
-                StatusEnum.NEW,
-                passenger,
-                null
-        );
+        User passenger = currentUser("Passenger not found");
 
-        Application savedApplication = applicationRepository.save(application);
+        Application savedApplication = applicationRepository.save(
+                newApplication(applicationRequest, passenger, stationService::resolveStation));
+        matchingService.refresh(savedApplication);
         return mapToResponse(savedApplication);
     }
 
     @Override
-    public ApplicationResponse updateApplication(Long id, UpdateApplicationRequest applicationRequest) {
-        Application application = applicationRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Application not found"));
-
-        if (applicationRequest.getDate() != null) {
-            application.setDate(applicationRequest.getDate());
+    @Transactional
+    public List<ApplicationResponse> createApplications(List<CreateApplicationRequest> applicationRequests) {
+        requireBatchSize(applicationRequests);
+        User passenger = currentUser("Passenger not found");
+        Map<String, Station> stations = new HashMap<>();
+
+        List<Application> applications = new ArrayList<>(applicationRequests.size());
+        for (CreateApplicationRequest applicationRequest : applicationRequests) {
+            applications.add(newApplication(applicationRequest, passenger,
+                    name -> stations.computeIfAbsent(name, stationService::resolveStation)));
         }
-        if (applicationRequest.getTime() != null) {
-            application.setTime(applicationRequest.getTime());
-        }
-        if (applicationRequest.getDepartureStation() != null) {
-            application.setDepartureStation(applicationRequest.getDepartureStation());
-        }
-        if (applicationRequest.getDestinationStation() != null) {
-            application.setDestinationStation(applicationRequest.getDestinationStation());
+
+        List<Application> savedApplications = applicationRepository.saveAll(applications);
+        savedApplications.forEach(matchingService::refresh);
+        return savedApplications.stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public ApplicationResponse updateApplication(Long id, UpdateApplicationRequest applicationRequest) {
+        User passenger = currentUser("Passenger not found");
+        Application application = applicationRepository.findByIdAndPassengerId(id, passenger.getId())
+                .orElseThrow(() -> new ApplicationNotFoundException("Application not found"));
+
+        applyUpdate(application, applicationRequest, stationService::resolveStation);
+        applicationRepository.save(application);
+
+        boolean claimed = applyClaim(application, applicationRequest);
+        if (applyTransition(application, applicationRequest, claimed) || claimed) {
+            matchingService.remove(id);
+        } else {
+            matchingService.refresh(application);
         }
-        if (applicationRequest.getComment() != null) {
-            application.setComment(applicationRequest.getComment());
+        return getApplicationById(id);
+    }
+
+    @Override
+    @Transactional
+    public List<ApplicationResponse> updateApplications(List<BatchUpdateApplicationRequest> applicationRequests) {
+        requireBatchSize(applicationRequests);
+        Set<Long> ids = new LinkedHashSet<>();
+        for (BatchUpdateApplicationRequest applicationRequest : applicationRequests) {
+            if (applicationRequest.getId() == null) {
+                throw new IllegalArgumentException("Application id cannot be null");
+            }
+            if (!ids.add(applicationRequest.getId())) {
+                throw new IllegalArgumentException("Duplicate application id " + applicationRequest.getId());
+            }
         }
-        if (applicationRequest.getStatus() != null) {
-            application.setStatus(applicationRequest.getStatus());
+
+        // Only the passenger's own applications are loaded, so anyone else's id is reported as not found.
+        User passenger = currentUser("Passenger not found");
+        Map<Long, Application> applications = applicationRepository.findAllByIdInAndPassengerId(ids, passenger.getId())
+                .stream()
+                .collect(Collectors.toMap(Application::getId, Function.identity()));
+        Map<String, Station> stations = new HashMap<>();
+
+        for (BatchUpdateApplicationRequest applicationRequest : applicationRequests) {
+            Application application = applications.get(applicationRequest.getId());
+            if (application == null) {
+                throw new ApplicationNotFoundException("Application not found: " + applicationRequest.getId());
+            }
+            applyUpdate(application, applicationRequest,
+                    name -> stations.computeIfAbsent(name, stationService::resolveStation));
         }
-        if (applicationRequest.getPassengerId() != null) {
-            User passenger = userRepository.findById(applicationRequest.getPassengerId())
-                    .orElseThrow(() -> new IllegalArgumentException("Passenger not found"));
-            application.setPassenger(passenger);
+        applicationRepository.saveAll(applications.values());
+
+        for (BatchUpdateApplicationRequest applicationRequest : applicationRequests) {
+            Application application = applications.get(applicationRequest.getId());
+            boolean claimed = applyClaim(application, applicationRequest);
+            if (applyTransition(application, applicationRequest, claimed) || claimed) {
+                matchingService.remove(application.getId());
+            } else {
+                matchingService.refresh(application);
+            }
         }
-        if (applicationRequest.getCompanionId() != null) {
-            User companion = userRepository.findById(applicationRequest.getCompanionId())
-                    .orElseThrow(() -> new IllegalArgumentException("Companion not found"));
-            application.setCompanion(companion);
+
+        Map<Long, ApplicationResponse> responses = applicationRepository.findViewsByIds(ids).stream()
+                .collect(Collectors.toMap(ApplicationView::id, ApplicationResponse::fromView));
+        return ids.stream()
+                .map(responses::get)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public List<ApplicationResponse> cancelApplications(List<Long> ids) {
+        requireBatchSize(ids);
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        User passenger = currentUser("Passenger not found");
+        int updated = applicationRepository.transitionAllOfPassenger(distinctIds, passenger.getId(),
+                StatusEnum.sourcesOf(StatusEnum.CANCELED), StatusEnum.CANCELED);
+        if (updated != distinctIds.size()) {
+            Set<Long> missing = new LinkedHashSet<>(distinctIds);
+            applicationRepository.findIdsOfPassenger(distinctIds, passenger.getId()).forEach(missing::remove);
+            if (!missing.isEmpty()) {
+                throw new ApplicationNotFoundException("Applications not found: " + missing);
+            }
+            throw new ApplicationConflictException("Only " + updated + " of " + distinctIds.size()
+                    + " applications can be canceled");
         }
+        distinctIds.forEach(matchingService::remove);
 
-        Application updatedApplication = applicationRepository.save(application);
-        return mapToResponse(updatedApplication);
+        Map<Long, ApplicationResponse> responses = applicationRepository.findViewsByIds(distinctIds).stream()
+                .collect(Collectors.toMap(ApplicationView::id, ApplicationResponse::fromView));
+        return distinctIds.stream()
+                .map(responses::get)
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -96,14 +195,10 @@ public class ApplicationServiceImpl implements ApplicationService {
 
     @Override
     public ApplicationResponse acceptApplication(Long id, Long companionId) {
-        Application application = applicationRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Application not found"));
-        User companion = userRepository.findById(companionId)
-                .orElseThrow(() -> new IllegalArgumentException("Companion not found"));
-        application.setCompanion(companion);
-        application.setStatus(StatusEnum.ACCEPTED);
-        Application updatedApplication = applicationRepository.save(application);
-        return mapToResponse(updatedApplication);
+        if (!userRepository.existsById(companionId)) {
+            throw new IllegalArgumentException("Companion not found");
+        }
+        return claim(id, userRepository.getReferenceById(companionId), StatusEnum.ACCEPTED);
     }
 
     @Override
@@ -121,31 +216,45 @@ public class ApplicationServiceImpl implements ApplicationService {
         return changeStatus(id, StatusEnum.COMPLETED);
     }
 
+    private ApplicationResponse claim(Long id, User companion, StatusEnum status) {
+        if (applicationRepository.claim(id, companion, status) == 0) {
+            if (!applicationRepository.existsById(id)) {
+                throw new IllegalArgumentException("Application not found");
+            }
+            throw new ApplicationConflictException("Application has already been taken or is no longer open");
+        }
+        matchingService.remove(id);
+        return getApplicationById(id);
+    }
+
     private ApplicationResponse changeStatus(Long id, StatusEnum status) {
-        Application application = applicationRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Application not found"));
-        application.setStatus(status);
-        Application updatedApplication = applicationRepository.save(application);
-        return mapToResponse(updatedApplication);
+        if (applicationRepository.transition(id, StatusEnum.sourcesOf(status), status) == 0) {
+            StatusEnum current = applicationRepository.findStatusById(id)
+                    .orElseThrow(() -> new IllegalArgumentException("Application not found"));
+            throw new ApplicationConflictException("Cannot change status from " + current + " to " + status);
+        }
+        matchingService.remove(id);
+        return getApplicationById(id);
     }
 
     @Override
     public ApplicationResponse getApplicationById(Long id) {
-        Application application = applicationRepository.findById(id)
+        return applicationRepository.findViewById(id)
+                .map(ApplicationResponse::fromView)
                 .orElseThrow(() -> new IllegalArgumentException("Application not found"));
-        return mapToResponse(application);
     }
 
     @Override
     public List<ApplicationResponse> getAllApplications() {
         return applicationRepository.findAllNewWithoutCompanion().stream()
-                .map(this::mapToResponse)
+                .map(ApplicationResponse::fromView)
                 .collect(Collectors.toList());
     }
 
     @Override
     public void deleteApplication(Long id) {
         applicationRepository.deleteById(id);
+        matchingService.remove(id);
     }
 
     @Override
@@ -154,14 +263,7 @@ public class ApplicationServiceImpl implements ApplicationService {
         User companion = userRepository.findByEmail(companionEmail)
                 .orElseThrow(() -> new IllegalArgumentException("Companion not found"));
 
-        Application application = applicationRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Application not found"));
-
-        application.setCompanion(companion);
-        application.setStatus(StatusEnum.OVERDUE);
-
-        Application updatedApplication = applicationRepository.save(application);
-        return mapToResponse(updatedApplication);
+        return claim(id, companion, StatusEnum.ACCEPTED);
     }
 
     @Override
@@ -171,7 +273,7 @@ public class ApplicationServiceImpl implements ApplicationService {
                 .orElseThrow(() -> new IllegalArgumentException("Passenger not found"));
 
         return applicationRepository.findByUser(passenger.getId()).stream()
-                .map(this::mapToResponse)
+                .map(ApplicationResponse::fromView)
                 .collect(Collectors.toList());
     }
 
@@ -182,7 +284,7 @@ public class ApplicationServiceImpl implements ApplicationService {
                 .orElseThrow(() -> new IllegalArgumentException("Companion not found"));
 
         return applicationRepository.findByCompanion(companion.getId()).stream()
-                .map(this::mapToResponse)
+                .map(ApplicationResponse::fromView)
                 .collect(Collectors.toList());
     }
 
@@ -192,7 +294,7 @@ public class ApplicationServiceImpl implements ApplicationService {
             throw new IllegalArgumentException("Status cannot be null");
         }
         return applicationRepository.findByStatus(status).stream()
-                .map(this::mapToResponse)
+                .map(ApplicationResponse::fromView)
                 .collect(Collectors.toList());
     }
 
@@ -201,8 +303,9 @@ public class ApplicationServiceImpl implements ApplicationService {
         if (date == null || date.trim().isEmpty()) {
             throw new IllegalArgumentException("Date cannot be null or empty");
         }
-        return applicationRepository.findByDate(date.trim()).stream()
-                .map(this::mapToResponse)
+        LocalDate day = ScheduleUtil.parseDate(date);
+        return applicationRepository.findScheduledBetween(day.atStartOfDay(), day.plusDays(1).atStartOfDay()).stream()
+                .map(ApplicationResponse::fromView)
                 .collect(Collectors.toList());
     }
 
@@ -214,8 +317,10 @@ public class ApplicationServiceImpl implements ApplicationService {
         if (endDate == null || endDate.trim().isEmpty()) {
             throw new IllegalArgumentException("End date cannot be null or empty");
         }
-        return applicationRepository.findByDateRange(startDate.trim(), endDate.trim()).stream()
-                .map(this::mapToResponse)
+        LocalDate from = ScheduleUtil.parseDate(startDate);
+        LocalDate to = ScheduleUtil.parseDate(endDate);
+        return applicationRepository.findScheduledBetween(from.atStartOfDay(), to.plusDays(1).atStartOfDay()).stream()
+                .map(ApplicationResponse::fromView)
                 .collect(Collectors.toList());
     }
 
@@ -224,8 +329,12 @@ public class ApplicationServiceImpl implements ApplicationService {
         if (station == null || station.trim().isEmpty()) {
             throw new IllegalArgumentException("Station cannot be null or empty");
         }
-        return applicationRepository.findByDepartureStation(station.trim()).stream()
-                .map(this::mapToResponse)
+        Set<Long> stationIds = stationService.findStationIds(station.trim());
+        if (stationIds.isEmpty()) {
+            return List.of();
+        }
+        return applicationRepository.findByDepartureStation(stationIds).stream()
+                .map(ApplicationResponse::fromView)
                 .collect(Collectors.toList());
     }
 
@@ -234,8 +343,12 @@ public class ApplicationServiceImpl implements ApplicationService {
         if (station == null || station.trim().isEmpty()) {
             throw new IllegalArgumentException("Station cannot be null or empty");
         }
-        return applicationRepository.findByDestinationStation(station.trim()).stream()
-                .map(this::mapToResponse)
+        Set<Long> stationIds = stationService.findStationIds(station.trim());
+        if (stationIds.isEmpty()) {
+            return List.of();
+        }
+        return applicationRepository.findByDestinationStation(stationIds).stream()
+                .map(ApplicationResponse::fromView)
                 .collect(Collectors.toList());
     }
 
@@ -244,8 +357,12 @@ public class ApplicationServiceImpl implements ApplicationService {
         if (station == null || station.trim().isEmpty()) {
             throw new IllegalArgumentException("Station cannot be null or empty");
         }
-        return applicationRepository.findByAnyStation(station.trim()).stream()
-                .map(this::mapToResponse)
+        Set<Long> stationIds = stationService.findStationIds(station.trim());
+        if (stationIds.isEmpty()) {
+            return List.of();
+        }
+        return applicationRepository.findByAnyStation(stationIds).stream()
+                .map(ApplicationResponse::fromView)
                 .collect(Collectors.toList());
     }
 
@@ -257,15 +374,20 @@ public class ApplicationServiceImpl implements ApplicationService {
         if (destinationStation == null || destinationStation.trim().isEmpty()) {
             throw new IllegalArgumentException("Destination station cannot be null or empty");
         }
-        return applicationRepository.findByRoute(departureStation.trim(), destinationStation.trim()).stream()
-                .map(this::mapToResponse)
+        Set<Long> departureStationIds = stationService.findStationIds(departureStation.trim());
+        Set<Long> destinationStationIds = stationService.findStationIds(destinationStation.trim());
+        if (departureStationIds.isEmpty() || destinationStationIds.isEmpty()) {
+            return List.of();
+        }
+        return applicationRepository.findByRoute(departureStationIds, destinationStationIds).stream()
+                .map(ApplicationResponse::fromView)
                 .collect(Collectors.toList());
     }
 
     @Override
     public List<ApplicationResponse> getActiveApplications() {
         return applicationRepository.findActiveApplications().stream()
-                .map(this::mapToResponse)
+                .map(ApplicationResponse::fromView)
                 .collect(Collectors.toList());
     }
 
@@ -279,7 +401,7 @@ public class ApplicationServiceImpl implements ApplicationService {
                 .orElseThrow(() -> new IllegalArgumentException("Companion not found"));
 
         return applicationRepository.findActiveApplicationsByCompanion(companionId).stream()
-                .map(this::mapToResponse)
+                .map(ApplicationResponse::fromView)
                 .collect(Collectors.toList());
     }
 
@@ -288,8 +410,12 @@ public class ApplicationServiceImpl implements ApplicationService {
         if (station == null || station.trim().isEmpty()) {
             throw new IllegalArgumentException("Station cannot be null or empty");
         }
-        return applicationRepository.findWithoutCompanionByDepartureStation(station.trim()).stream()
-                .map(this::mapToResponse)
+        Set<Long> stationIds = stationService.findStationIds(station.trim());
+        if (stationIds.isEmpty()) {
+            return List.of();
+        }
+        return applicationRepository.findWithoutCompanionByDepartureStation(stationIds).stream()
+                .map(ApplicationResponse::fromView)
                 .collect(Collectors.toList());
     }
 
@@ -298,8 +424,12 @@ public class ApplicationServiceImpl implements ApplicationService {
         if (station == null || station.trim().isEmpty()) {
             throw new IllegalArgumentException("Station cannot be null or empty");
         }
-        return applicationRepository.findWithoutCompanionByDestinationStation(station.trim()).stream()
-                .map(this::mapToResponse)
+        Set<Long> stationIds = stationService.findStationIds(station.trim());
+        if (stationIds.isEmpty()) {
+            return List.of();
+        }
+        return applicationRepository.findWithoutCompanionByDestinationStation(stationIds).stream()
+                .map(ApplicationResponse::fromView)
                 .collect(Collectors.toList());
     }
 
@@ -308,8 +438,12 @@ public class ApplicationServiceImpl implements ApplicationService {
         if (station == null || station.trim().isEmpty()) {
             throw new IllegalArgumentException("Station cannot be null or empty");
         }
-        return applicationRepository.findWithoutCompanionByAnyStation(station.trim()).stream()
-                .map(this::mapToResponse)
+        Set<Long> stationIds = stationService.findStationIds(station.trim());
+        if (stationIds.isEmpty()) {
+            return List.of();
+        }
+        return applicationRepository.findWithoutCompanionByAnyStation(stationIds).stream()
+                .map(ApplicationResponse::fromView)
                 .collect(Collectors.toList());
     }
 
@@ -321,8 +455,13 @@ public class ApplicationServiceImpl implements ApplicationService {
         if (destinationStation == null || destinationStation.trim().isEmpty()) {
             throw new IllegalArgumentException("Destination station cannot be null or empty");
         }
-        return applicationRepository.findWithoutCompanionByRoute(departureStation.trim(), destinationStation.trim()).stream()
-                .map(this::mapToResponse)
+        Set<Long> departureStationIds = stationService.findStationIds(departureStation.trim());
+        Set<Long> destinationStationIds = stationService.findStationIds(destinationStation.trim());
+        if (departureStationIds.isEmpty() || destinationStationIds.isEmpty()) {
+            return List.of();
+        }
+        return applicationRepository.findWithoutCompanionByRoute(departureStationIds, destinationStationIds).stream()
+                .map(ApplicationResponse::fromView)
                 .collect(Collectors.toList());
     }
 
@@ -334,8 +473,9 @@ public class ApplicationServiceImpl implements ApplicationService {
         if (date == null || date.trim().isEmpty()) {
             throw new IllegalArgumentException("Date cannot be null or empty");
         }
-        return applicationRepository.findByStatusAndDate(status, date.trim()).stream()
-                .map(this::mapToResponse)
+        LocalDate day = ScheduleUtil.parseDate(date);
+        return applicationRepository.findByStatusScheduledBetween(status, day.atStartOfDay(), day.plusDays(1).atStartOfDay()).stream()
+                .map(ApplicationResponse::fromView)
                 .collect(Collectors.toList());
     }
 
@@ -350,22 +490,208 @@ public class ApplicationServiceImpl implements ApplicationService {
         if (destinationStation == null || destinationStation.trim().isEmpty()) {
             throw new IllegalArgumentException("Destination station cannot be null or empty");
         }
-        return applicationRepository.findByStatusAndRoute(status, departureStation.trim(), destinationStation.trim()).stream()
-                .map(this::mapToResponse)
+        Set<Long> departureStationIds = stationService.findStationIds(departureStation.trim());
+        Set<Long> destinationStationIds = stationService.findStationIds(destinationStation.trim());
+        if (departureStationIds.isEmpty() || destinationStationIds.isEmpty()) {
+            return List.of();
+        }
+        return applicationRepository.findByStatusAndRoute(status, departureStationIds, destinationStationIds).stream()
+                .map(ApplicationResponse::fromView)
                 .collect(Collectors.toList());
     }
 
-    private ApplicationResponse mapToResponse(Application application) {
-        return new ApplicationResponse(
-                application.getId(),
-                application.getDate(),
-                application.getTime(),
-                application.getDepartureStation(),
-                application.getDestinationStation(),
-                application.getComment(),
-                application.getStatus(),
-                application.getPassenger().getId(),
-                application.getCompanion() != null ? application.getCompanion().getId() : null
+    @Override
+    public ApplicationPageResponse searchApplications(ApplicationSearchRequest request) {
+        List<Specification<Application>> specs = new ArrayList<>();
+
+        if (request.getStatus() != null && !request.getStatus().isEmpty()) {
+            specs.add(ApplicationSpecifications.statusIn(request.getStatus()));
+        }
+        if (hasText(request.getDepartureStation())) {
+            Set<Long> stationIds = stationService.findStationIds(request.getDepartureStation().trim());
+            if (stationIds.isEmpty()) {
+                return ApplicationPageResponse.empty();
+            }
+            specs.add(ApplicationSpecifications.departureStationIn(stationIds));
+        }
+        if (hasText(request.getDestinationStation())) {
+            Set<Long> stationIds = stationService.findStationIds(request.getDestinationStation().trim());
+            if (stationIds.isEmpty()) {
+                return ApplicationPageResponse.empty();
+            }
+            specs.add(ApplicationSpecifications.destinationStationIn(stationIds));
+        }
+        if (hasText(request.getStation())) {
+            Set<Long> stationIds = stationService.findStationIds(request.getStation().trim());
+            if (stationIds.isEmpty()) {
+                return ApplicationPageResponse.empty();
+            }
+            specs.add(ApplicationSpecifications.anyStationIn(stationIds));
+        }
+        LocalDate dateFrom = hasText(request.getDateFrom()) ? ScheduleUtil.parseDate(request.getDateFrom()) : null;
+        LocalDate dateTo = hasText(request.getDateTo()) ? ScheduleUtil.parseDate(request.getDateTo()) : null;
+        if (dateFrom != null && dateTo != null && dateFrom.isAfter(dateTo)) {
+            throw new IllegalArgumentException("Start date cannot be after end date");
+        }
+        if (dateFrom != null) {
+            specs.add(ApplicationSpecifications.scheduledFrom(dateFrom.atStartOfDay()));
+        }
+        if (dateTo != null) {
+            specs.add(ApplicationSpecifications.scheduledBefore(dateTo.plusDays(1).atStartOfDay()));
+        }
+        if (request.getHasCompanion() != null) {
+            specs.add(ApplicationSpecifications.hasCompanion(request.getHasCompanion()));
+        }
+        if (request.getPassengerId() != null) {
+            specs.add(ApplicationSpecifications.passengerIs(request.getPassengerId()));
+        }
+        if (request.getCompanionId() != null) {
+            specs.add(ApplicationSpecifications.companionIs(request.getCompanionId()));
+        }
+
+        ApplicationSortEnum sortBy = request.getSortBy() != null ? request.getSortBy() : ApplicationSortEnum.SCHEDULED_AT;
+        Sort.Direction direction = request.getDirection() != null ? request.getDirection() : Sort.Direction.ASC;
+        boolean bySchedule = sortBy == ApplicationSortEnum.SCHEDULED_AT;
+
+        if (hasText(request.getCursor())) {
+            ApplicationCursor cursor = ApplicationCursor.decode(request.getCursor().trim());
+            if (bySchedule && cursor.scheduledAt() == null) {
+                throw new IllegalArgumentException("Cursor does not match sort " + sortBy);
+            }
+            specs.add(bySchedule
+                    ? ApplicationSpecifications.scheduledAfterCursor(cursor, direction)
+                    : ApplicationSpecifications.idAfterCursor(cursor, direction));
+        }
+
+        Sort sort = bySchedule
+                ? Sort.by(direction, "scheduledAt").and(Sort.by(direction, "id"))
+                : Sort.by(direction, "id");
+        int size = request.getSize() == null || request.getSize() <= 0
+                ? DEFAULT_SEARCH_PAGE_SIZE
+                : Math.min(request.getSize(), MAX_SEARCH_PAGE_SIZE);
+
+        List<ApplicationView> rows = applicationRepository.findViews(Specification.allOf(specs), sort, size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<ApplicationView> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            ApplicationView last = page.get(page.size() - 1);
+            nextCursor = new ApplicationCursor(bySchedule ? last.scheduledAt() : null, last.id()).encode();
+        }
+
+        return new ApplicationPageResponse(
+                page.stream().map(ApplicationResponse::fromView).collect(Collectors.toList()),
+                nextCursor,
+                hasNext);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+
+    private User currentUser(String notFoundMessage) {
+        return userRepository.findByEmail(authUtil.getPrincipalEmail())
+                .orElseThrow(() -> new IllegalArgumentException(notFoundMessage));
+    }
+
+    private static void requireBatchSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("Batch cannot be empty");
+        }
+        if (items.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch cannot contain more than " + MAX_BATCH_SIZE + " items");
+        }
+    }
+
+    private static Application newApplication(CreateApplicationRequest applicationRequest, User passenger,
+                                              Function<String, Station> stations) {
+        return new Application(
+                scheduledAt(applicationRequest.getDate(), applicationRequest.getTime()),
+                stations.apply(applicationRequest.getDepartureStation()),
+                stations.apply(applicationRequest.getDestinationStation()),
+                applicationRequest.getComment(),
+                StatusEnum.NEW,
+                passenger,
+                null
         );
     }
-}
\ No newline at end of file
+
+    private void applyUpdate(Application application, UpdateApplicationRequest applicationRequest,
+                             Function<String, Station> stations) {
+        if (applicationRequest.getDate() != null || applicationRequest.getTime() != null) {
+            LocalDateTime current = application.getScheduledAt() != null
+                    ? application.getScheduledAt()
+                    : scheduledAt(applicationRequest.getDate(), applicationRequest.getTime());
+            LocalDate date = applicationRequest.getDate() != null
+                    ? ScheduleUtil.parseDate(applicationRequest.getDate())
+                    : current.toLocalDate();
+            LocalTime time = applicationRequest.getTime() != null
+                    ? ScheduleUtil.parseTime(applicationRequest.getTime())
+                    : current.toLocalTime();
+            application.setScheduledAt(LocalDateTime.of(date, time));
+        }
+        if (applicationRequest.getDepartureStation() != null) {
+            application.setDepartureStation(stations.apply(applicationRequest.getDepartureStation()));
+        }
+        if (applicationRequest.getDestinationStation() != null) {
+            application.setDestinationStation(stations.apply(applicationRequest.getDestinationStation()));
+        }
+        if (applicationRequest.getComment() != null) {
+            application.setComment(applicationRequest.getComment());
+        }
+    }
+
+    private boolean applyClaim(Application application, UpdateApplicationRequest applicationRequest) {
+        Long companionId = applicationRequest.getCompanionId();
+        if (companionId == null) {
+            if (applicationRequest.getStatus() == StatusEnum.ACCEPTED && application.getStatus() != StatusEnum.ACCEPTED) {
+                throw new IllegalArgumentException("Accepting an application requires companionId");
+            }
+            return false;
+        }
+        if (application.getCompanion() != null && companionId.equals(application.getCompanion().getId())) {
+            return false;
+        }
+        if (!userRepository.existsById(companionId)) {
+            throw new IllegalArgumentException("Companion not found");
+        }
+        // The companion column is never written from the entity, so this conditional update is the only way to assign one.
+        if (applicationRepository.claim(application.getId(), userRepository.getReferenceById(companionId),
+                StatusEnum.ACCEPTED) == 0) {
+            throw new ApplicationConflictException("Application " + application.getId()
+                    + " has already been taken or is no longer open");
+        }
+        return true;
+    }
+
+    private boolean applyTransition(Application application, UpdateApplicationRequest applicationRequest, boolean claimed) {
+        StatusEnum target = applicationRequest.getStatus();
+        StatusEnum loaded = claimed ? StatusEnum.ACCEPTED : application.getStatus();
+        if (target == null || target == loaded) {
+            return false;
+        }
+        // Like the companion, status is only written by conditional updates, so a transition that raced
+        // with another one or with the overdue detector fails here instead of being overwritten.
+        if (applicationRepository.transition(application.getId(), StatusEnum.sourcesOf(target), target) == 0) {
+            StatusEnum current = applicationRepository.findStatusById(application.getId()).orElse(loaded);
+            throw new ApplicationConflictException("Cannot change status of application " + application.getId()
+                    + " from " + current + " to " + target);
+        }
+        return true;
+    }
+
+    private ApplicationResponse mapToResponse(Application application) {
+        return ApplicationResponse.fromApplication(application);
+    }
+
+    private static LocalDateTime scheduledAt(String date, String time) {
+        if (date == null || date.trim().isEmpty()) {
+            throw new IllegalArgumentException("Date cannot be null or empty");
+        }
+        if (time == null || time.trim().isEmpty()) {
+            throw new IllegalArgumentException("Time cannot be null or empty");
+        }
+        return LocalDateTime.of(ScheduleUtil.parseDate(date), ScheduleUtil.parseTime(time));
+    }
+}
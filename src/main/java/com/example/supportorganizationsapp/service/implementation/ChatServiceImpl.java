@@ -1,21 +1,30 @@
 package com.example.supportorganizationsapp.service.implementation;
 
 import com.example.supportorganizationsapp.dto.request.GroupChatRequestDTO;
+import com.example.supportorganizationsapp.dto.response.ChatReadStatusDTO;
+import com.example.supportorganizationsapp.dto.response.ChatSummaryDTO;
+import com.example.supportorganizationsapp.dto.response.UserDTO;
 import com.example.supportorganizationsapp.exception.ChatException;
 import com.example.supportorganizationsapp.exception.UserException;
 import com.example.supportorganizationsapp.models.Chat;
+import com.example.supportorganizationsapp.models.ChatReadState;
 import com.example.supportorganizationsapp.models.User;
+import com.example.supportorganizationsapp.repository.ChatReadStateRepository;
 import com.example.supportorganizationsapp.repository.ChatRepository;
+import com.example.supportorganizationsapp.repository.projection.ChatParticipantView;
+import com.example.supportorganizationsapp.repository.projection.ChatSummaryView;
 import com.example.supportorganizationsapp.service.ChatService;
 import com.example.supportorganizationsapp.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -23,6 +32,7 @@ public class ChatServiceImpl implements ChatService {
 
     private final UserService userService;
     private final ChatRepository chatRepository;
+    private final ChatReadStateRepository chatReadStateRepository;
 
     @Override
     public Chat createChat(User reqUser, Long userId2) throws UserException {
@@ -37,9 +47,11 @@ public class ChatServiceImpl implements ChatService {
 
         Chat chat = Chat.builder()
                 .createdBy(reqUser)
-                .users(new HashSet<>(Set.of(reqUser, user2)))
+                .users(new HashSet<>())
                 .isGroup(false)
                 .build();
+        addMember(chat, reqUser);
+        addMember(chat, user2);
 
         return chatRepository.save(chat);
     }
@@ -61,19 +73,28 @@ public class ChatServiceImpl implements ChatService {
 
         User user = userService.findUserById(userId);
 
-        return chatRepository.findChatByUserId(user.getId()).stream()
-                .sorted((chat1, chat2) -> {
-                    if (chat1.getMessages().isEmpty() && chat2.getMessages().isEmpty()) {
-                        return 0;
-                    } else if (chat1.getMessages().isEmpty()) {
-                        return 1;
-                    } else if (chat2.getMessages().isEmpty()) {
-                        return -1;
-                    }
-                    LocalDateTime timeStamp1 = chat1.getMessages().get(chat1.getMessages().size() - 1).getTimeStamp();
-                    LocalDateTime timeStamp2 = chat2.getMessages().get(chat2.getMessages().size() - 1).getTimeStamp();
-                    return timeStamp2.compareTo(timeStamp1);
-                })
+        return chatRepository.findChatByUserId(user.getId());
+    }
+
+    @Override
+    public List<ChatSummaryDTO> findChatSummaries(Long userId) {
+
+        List<ChatSummaryView> summaries = chatRepository.findChatSummariesByUserId(userId);
+
+        if (summaries.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> chatIds = summaries.stream()
+                .map(ChatSummaryView::getId)
+                .toList();
+
+        Map<Long, Set<UserDTO>> participants = chatRepository.findParticipantsByChatIds(chatIds).stream()
+                .collect(Collectors.groupingBy(ChatParticipantView::getChatId,
+                        Collectors.mapping(UserDTO::fromParticipant, Collectors.toSet())));
+
+        return summaries.stream()
+                .map(summary -> ChatSummaryDTO.fromView(summary, participants.getOrDefault(summary.getId(), Set.of())))
                 .toList();
     }
 
@@ -90,7 +111,7 @@ public class ChatServiceImpl implements ChatService {
 
         for (Long userId : req.getUserIds()) {
             User userToAdd = userService.findUserById(userId);
-            groupChat.getUsers().add(userToAdd);
+            addMember(groupChat, userToAdd);
         }
 
         return chatRepository.save(groupChat);
@@ -103,7 +124,7 @@ public class ChatServiceImpl implements ChatService {
         User user = userService.findUserById(userId);
 
         if (chat.getAdmins().contains(reqUser)) {
-            chat.getUsers().add(user);
+            addMember(chat, user);
             return chatRepository.save(chat);
         }
 
@@ -134,6 +155,7 @@ public class ChatServiceImpl implements ChatService {
 
         if (isAdminOrRemoveSelf) {
             chat.getUsers().remove(user);
+            chat.getReadStates().removeIf(state -> state.getUser().equals(user));
             return chatRepository.save(chat);
         }
 
@@ -157,18 +179,42 @@ public class ChatServiceImpl implements ChatService {
     }
 
     @Override
-    public Chat markAsRead(Long chatId, User reqUser) throws ChatException, UserException {
+    @Transactional
+    public ChatReadStatusDTO markAsRead(Long chatId, User reqUser) throws ChatException, UserException {
+
+        if (!chatRepository.existsByIdAndUsers_Id(chatId, reqUser.getId())) {
+            if (!chatRepository.existsById(chatId)) {
+                throw new ChatException("No chat found with id " + chatId);
+            }
+            throw new UserException("User is not related to chat");
+        }
 
-        Chat chat = findChatById(chatId);
+        chatRepository.findLastMessageIdById(chatId)
+                .ifPresent(lastMessageId -> advanceReadWatermark(chatId, reqUser, lastMessageId));
 
-        if (chat.getUsers().contains(reqUser)) {
-            chat.getMessages().forEach(msg -> msg.getReadBy().add(reqUser.getId()));
+        return ChatReadStatusDTO.builder()
+                .chatId(chatId)
+                .lastReadMessageId(chatReadStateRepository.findLastReadMessageId(chatId, reqUser.getId()).orElse(null))
+                .unreadCount(chatReadStateRepository.countUnread(chatId, reqUser.getId()))
+                .build();
+    }
 
-            return chatRepository.save(chat);
+    @Override
+    @Transactional
+    public void advanceReadWatermark(Long chatId, User user, Long messageId) {
+
+        if (messageId == null) {
+            return;
         }
 
+        // Every member gets a read state when joining the chat, so there is always a row to advance.
+        chatReadStateRepository.advanceWatermark(chatId, user.getId(), messageId);
+    }
 
-        throw new UserException("User is not related to chat");
+    private static void addMember(Chat chat, User user) {
+        if (chat.getUsers().add(user)) {
+            chat.getReadStates().add(new ChatReadState(chat, user, null));
+        }
     }
 
     @Override
@@ -0,0 +1,109 @@
+package com.example.supportorganizationsapp.service.implementation;
+
+import com.example.supportorganizationsapp.exception.LoginThrottledException;
+import com.example.supportorganizationsapp.service.LoginThrottleService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Service
+public class LoginThrottleServiceImpl implements LoginThrottleService {
+
+    private static final long TRACKED_KEYS_MAX_SIZE = 100_000;
+
+    private final int maxAccountFailures;
+    private final Duration accountWindow;
+    private final int maxIpAttempts;
+    private final Duration ipWindow;
+    private final Cache<String, AttemptWindow> accountFailures;
+    private final Cache<String, AttemptWindow> ipAttempts;
+    private final Counter accountThrottled;
+    private final Counter ipThrottled;
+
+    public LoginThrottleServiceImpl(MeterRegistry meterRegistry,
+                                    @Value("${auth.signin.account.max-failures:5}") int maxAccountFailures,
+                                    @Value("${auth.signin.account.window:PT15M}") Duration accountWindow,
+                                    @Value("${auth.signin.ip.max-attempts:30}") int maxIpAttempts,
+                                    @Value("${auth.signin.ip.window:PT1M}") Duration ipWindow) {
+        this.maxAccountFailures = maxAccountFailures;
+        this.accountWindow = accountWindow;
+        this.maxIpAttempts = maxIpAttempts;
+        this.ipWindow = ipWindow;
+        // Entries are created on the first attempt and only their counters change afterwards,
+        // so expire-after-write gives each key a fixed window that starts with that attempt.
+        this.accountFailures = Caffeine.newBuilder()
+                .maximumSize(TRACKED_KEYS_MAX_SIZE)
+                .expireAfterWrite(accountWindow)
+                .build();
+        this.ipAttempts = Caffeine.newBuilder()
+                .maximumSize(TRACKED_KEYS_MAX_SIZE)
+                .expireAfterWrite(ipWindow)
+                .build();
+        this.accountThrottled = Counter.builder("auth.signin.throttled")
+                .description("Sign-in attempts refused before the password was checked")
+                .tag("reason", "account")
+                .register(meterRegistry);
+        this.ipThrottled = Counter.builder("auth.signin.throttled")
+                .description("Sign-in attempts refused before the password was checked")
+                .tag("reason", "ip")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void acquireAttempt(String email, String clientIp) {
+        AttemptWindow ip = ipAttempts.get(clientIp, key -> new AttemptWindow());
+        if (ip.attempts.incrementAndGet() > maxIpAttempts) {
+            ipThrottled.increment();
+            log.warn("Sign-in throttled for address {}", clientIp);
+            throw new LoginThrottledException("Too many sign-in attempts from this address", ip.remaining(ipWindow));
+        }
+
+        // The attempt is counted as a failure before the password is checked, so parallel guesses
+        // cannot all pass the check while the first ones are still hashing.
+        AttemptWindow account = accountFailures.get(normalize(email), key -> new AttemptWindow());
+        if (account.attempts.incrementAndGet() > maxAccountFailures) {
+            account.attempts.decrementAndGet();
+            accountThrottled.increment();
+            log.warn("Sign-in throttled for account {}", email);
+            throw new LoginThrottledException("Too many failed sign-in attempts for this account",
+                    account.remaining(accountWindow));
+        }
+    }
+
+    @Override
+    public void releaseAttempt(String email) {
+        AttemptWindow account = accountFailures.getIfPresent(normalize(email));
+        if (account != null) {
+            account.attempts.updateAndGet(attempts -> Math.max(0, attempts - 1));
+        }
+    }
+
+    @Override
+    public void loginSucceeded(String email) {
+        accountFailures.invalidate(normalize(email));
+    }
+
+    private static String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class AttemptWindow {
+
+        private final long startedAt = System.nanoTime();
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        private Duration remaining(Duration window) {
+            Duration left = window.minusNanos(System.nanoTime() - startedAt);
+            return left.isNegative() ? Duration.ZERO : left;
+        }
+    }
+}
@@ -4,59 +4,114 @@ import com.example.supportorganizationsapp.dto.request.SendMessageRequestDTO;
 import com.example.supportorganizationsapp.exception.ChatException;
 import com.example.supportorganizationsapp.exception.MessageException;
 import com.example.supportorganizationsapp.exception.UserException;
-import com.example.supportorganizationsapp.models.Chat;
 import com.example.supportorganizationsapp.models.Message;
 import com.example.supportorganizationsapp.models.User;
+import com.example.supportorganizationsapp.repository.ChatRepository;
 import com.example.supportorganizationsapp.repository.MessageRepository;
 import com.example.supportorganizationsapp.service.ChatService;
 import com.example.supportorganizationsapp.service.MessageService;
 import com.example.supportorganizationsapp.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
 public class MessageServiceImpl implements MessageService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final UserService userService;
     private final ChatService chatService;
     private final MessageRepository messageRepository;
+    private final ChatRepository chatRepository;
+    private final MessageWriteBatcher messageWriteBatcher;
+
+    @Override
+    @Transactional
+    public Message sendMessage(SendMessageRequestDTO req, Long userId) throws UserException, ChatException, MessageException {
+
+        Message message = newMessage(req, userId);
+
+        Message saved = messageRepository.save(message);
+        chatRepository.updateLastMessage(req.getChatId(), saved.getId(), saved.getTimeStamp());
+
+        return saved;
+    }
 
     @Override
-    public Message sendMessage(SendMessageRequestDTO req, Long userId) throws UserException, ChatException {
+    public CompletableFuture<Message> submitMessage(SendMessageRequestDTO req, Long userId)
+            throws UserException, ChatException, MessageException {
+        return messageWriteBatcher.submit(newMessage(req, userId));
+    }
+
+    private Message newMessage(SendMessageRequestDTO req, Long userId) throws UserException, ChatException, MessageException {
+        if (req.getChatId() == null) {
+            throw new ChatException("Chat id cannot be null");
+        }
+        if (req.getContent() == null || req.getContent().isBlank()) {
+            throw new MessageException("Message content cannot be empty");
+        }
 
         User user = userService.findUserById(userId);
-        Chat chat = chatService.findChatById(req.getChatId());
+        requireMember(req.getChatId(), user.getId(), "User is not a member of this chat");
 
-        Message message = Message.builder()
-                .chat(chat)
+        return Message.builder()
+                .chat(chatRepository.getReferenceById(req.getChatId()))
                 .user(user)
                 .content(req.getContent())
                 .timeStamp(LocalDateTime.now())
-                .readBy(new HashSet<>(Set.of(user.getId())))
                 .build();
-
-        chat.getMessages().add(message);
-
-        return messageRepository.save(message);
     }
 
     @Override
-    public List<Message> getChatMessages(Long chatId, User reqUser) throws UserException, ChatException {
+    public List<Message> getChatMessages(Long chatId, User reqUser, Long beforeId, Long afterId, int size)
+            throws UserException, ChatException, MessageException {
+
+        requireMember(chatId, reqUser.getId(), "User isn't related to chat " + chatId);
+
+        if (beforeId != null && afterId != null) {
+            throw new MessageException("Only one of 'before' and 'after' cursors can be set");
+        }
+
+        Pageable page = PageRequest.of(0, size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE));
+
+        if (afterId != null) {
+            LocalDateTime cursor = findCursorTimeStamp(afterId, chatId);
+            return messageRepository.findPageAfter(chatId, cursor, afterId, page);
+        }
 
-        Chat chat = chatService.findChatById(chatId);
+        List<Message> messages = beforeId != null
+                ? messageRepository.findPageBefore(chatId, findCursorTimeStamp(beforeId, chatId), beforeId, page)
+                : messageRepository.findLatestByChatId(chatId, page);
 
-        if (!chat.getUsers().contains(reqUser)) {
-            throw new UserException("User isn't related to chat " + chatId);
+        List<Message> chronological = new ArrayList<>(messages);
+        Collections.reverse(chronological);
+        return chronological;
+    }
+
+    private void requireMember(Long chatId, Long userId, String message) throws ChatException, UserException {
+        if (!chatRepository.existsByIdAndUsers_Id(chatId, userId)) {
+            if (!chatRepository.existsById(chatId)) {
+                throw new ChatException("No chat found with id " + chatId);
+            }
+            throw new UserException(message);
         }
+    }
 
-        return messageRepository.findByChat_Id(chat.getId());
+    private LocalDateTime findCursorTimeStamp(Long messageId, Long chatId) throws MessageException {
+        return messageRepository.findTimeStampByIdAndChatId(messageId, chatId)
+                .orElseThrow(() -> new MessageException("Message " + messageId + " not found in chat " + chatId));
     }
 
     @Override
@@ -72,18 +127,24 @@ public class MessageServiceImpl implements MessageService {
     }
 
     @Override
+    @Transactional
     public void deleteMessageById(Long messageId, User reqUser) throws UserException, MessageException {
 
         Message message = findMessageById(messageId);
 
         if (message.getUser().getId().equals(reqUser.getId())) {
+            Long chatId = message.getChat().getId();
             messageRepository.deleteById(messageId);
+            messageRepository.flush();
+            chatRepository.refreshLastMessage(chatId, messageId);
             return;
         }
 
         throw new UserException("User is not related to message " + message.getId());
     }
+
     @Override
+    @Transactional
     public Message updateMessageContent(Long messageId, String newContent, Long userId) throws UserException, MessageException {
         User user = userService.findUserById(userId);
         Message message = findMessageById(messageId);
@@ -93,30 +154,31 @@ public class MessageServiceImpl implements MessageService {
         }
 
         message.setContent(newContent);
-        return messageRepository.save(message);
+        Message saved = messageRepository.save(message);
+        chatRepository.touchLastActivity(saved.getChat().getId(), saved.getId(), LocalDateTime.now());
+
+        return saved;
     }
 
     @Override
+    @Transactional
     public Message markMessageAsRead(Long messageId, Long userId) throws UserException, MessageException {
         User user = userService.findUserById(userId);
         Message message = findMessageById(messageId);
 
-        if (!message.getChat().getUsers().contains(user)) {
+        Long chatId = message.getChat().getId();
+        if (!chatRepository.existsByIdAndUsers_Id(chatId, user.getId())) {
             throw new UserException("User is not a member of this chat");
         }
 
-        message.getReadBy().add(user.getId());
-        return messageRepository.save(message);
+        chatService.advanceReadWatermark(chatId, user, message.getId());
+        return message;
     }
 
     @Override
     public List<Message> searchMessagesByContent(String searchText, Long chatId, Long userId) throws UserException, ChatException {
         User user = userService.findUserById(userId);
-        Chat chat = chatService.findChatById(chatId);
-
-        if (!chat.getUsers().contains(user)) {
-            throw new UserException("User is not a member of this chat");
-        }
+        requireMember(chatId, user.getId(), "User is not a member of this chat");
 
         return messageRepository.findByChat_IdAndContentContainingIgnoreCase(chatId, searchText);
     }
@@ -124,11 +186,7 @@ public class MessageServiceImpl implements MessageService {
     @Override
     public Message getLastMessageFromUser(Long userId, Long chatId, Long reqUserId) throws UserException, ChatException, MessageException {
         User reqUser = userService.findUserById(reqUserId);
-        Chat chat = chatService.findChatById(chatId);
-
-        if (!chat.getUsers().contains(reqUser)) {
-            throw new UserException("User is not a member of this chat");
-        }
+        requireMember(chatId, reqUser.getId(), "User is not a member of this chat");
 
         List<Message> messages = messageRepository.findByChat_IdAndUser_IdOrderByTimeStampDesc(chatId, userId);
 
@@ -0,0 +1,131 @@
+package com.example.supportorganizationsapp.service.implementation;
+
+import com.example.supportorganizationsapp.models.Message;
+import com.example.supportorganizationsapp.repository.ChatRepository;
+import com.example.supportorganizationsapp.repository.MessageRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+@Slf4j
+@Component
+public class MessageWriteBatcher {
+
+    private final MessageRepository messageRepository;
+    private final ChatRepository chatRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxBatchSize;
+    private final BlockingQueue<PendingMessage> queue;
+    private final Thread writer;
+
+    private volatile boolean running = true;
+
+    public MessageWriteBatcher(MessageRepository messageRepository,
+                               ChatRepository chatRepository,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${messages.write-batch.max-size:100}") int maxBatchSize,
+                               @Value("${messages.write-batch.queue-capacity:10000}") int queueCapacity) {
+        this.messageRepository = messageRepository;
+        this.chatRepository = chatRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.maxBatchSize = maxBatchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.writer = new Thread(this::drain, "message-writer");
+        this.writer.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.interrupt();
+        writer.join(5_000);
+        rejectPending();
+    }
+
+    public CompletableFuture<Message> submit(Message message) {
+        PendingMessage pending = new PendingMessage(message, new CompletableFuture<>());
+        if (!running || !queue.offer(pending)) {
+            pending.result().completeExceptionally(new RejectedExecutionException("Message write queue is full"));
+        }
+        return pending.result();
+    }
+
+    private void drain() {
+        List<PendingMessage> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            // A quiet chat writes one message per transaction; a burst is drained into a single batched insert.
+            queue.drainTo(batch, maxBatchSize - 1);
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<PendingMessage> batch) {
+        List<Message> saved;
+        try {
+            saved = transactionTemplate.execute(status -> persist(batch));
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                log.error("Failed to persist a message", e);
+                batch.get(0).result().completeExceptionally(e);
+                return;
+            }
+            // One bad row rolls back the whole batch; writing the messages one by one fails only that sender.
+            log.warn("Failed to persist a batch of {} messages, retrying them one by one", batch.size(), e);
+            for (PendingMessage pending : batch) {
+                pending.message().setId(null);
+                write(List.of(pending));
+            }
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result().complete(saved.get(i));
+        }
+    }
+
+    private List<Message> persist(List<PendingMessage> batch) {
+        List<Message> saved = messageRepository.saveAll(batch.stream().map(PendingMessage::message).toList());
+
+        Map<Long, Message> latestByChat = new HashMap<>();
+        for (Message message : saved) {
+            latestByChat.merge(message.getChat().getId(), message,
+                    (current, candidate) -> candidate.getId() > current.getId() ? candidate : current);
+        }
+        for (Message latest : latestByChat.values()) {
+            chatRepository.updateLastMessage(latest.getChat().getId(), latest.getId(), latest.getTimeStamp());
+        }
+        return saved;
+    }
+
+    private void rejectPending() {
+        List<PendingMessage> pending = new ArrayList<>();
+        queue.drainTo(pending);
+        pending.forEach(p -> p.result().completeExceptionally(new RejectedExecutionException("Message writer stopped")));
+    }
+
+    private record PendingMessage(Message message, CompletableFuture<Message> result) {
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.supportorganizationsapp.service.implementation;
+
+import com.example.supportorganizationsapp.dto.response.application.ApplicationResponse;
+import com.example.supportorganizationsapp.enums.StatusEnum;
+import com.example.supportorganizationsapp.models.Application;
+import com.example.supportorganizationsapp.repository.projection.OpenApplicationView;
+import com.example.supportorganizationsapp.utils.ScheduleUtil;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+final class OpenApplicationIndex {
+
+    private static final Comparator<Entry> BY_SCHEDULE = Comparator
+            .comparing(Entry::scheduledAt)
+            .thenComparing(Entry::id);
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Long, NavigableSet<Entry>> byDeparture = new ConcurrentHashMap<>();
+    private final Map<Long, NavigableSet<Entry>> byDestination = new ConcurrentHashMap<>();
+
+    private OpenApplicationIndex() {
+    }
+
+    static OpenApplicationIndex of(Collection<OpenApplicationView> views) {
+        OpenApplicationIndex index = new OpenApplicationIndex();
+        views.forEach(view -> index.put(Entry.of(view)));
+        return index;
+    }
+
+    static boolean isOpen(Application application) {
+        return application.getStatus() == StatusEnum.NEW
+                && application.getCompanion() == null
+                && application.getScheduledAt() != null
+                && application.getDepartureStation() != null
+                && application.getDestinationStation() != null;
+    }
+
+    synchronized void put(Entry entry) {
+        remove(entry.id());
+        entries.put(entry.id(), entry);
+        byDeparture.computeIfAbsent(entry.departureStationId(), id -> new ConcurrentSkipListSet<>(BY_SCHEDULE)).add(entry);
+        byDestination.computeIfAbsent(entry.destinationStationId(), id -> new ConcurrentSkipListSet<>(BY_SCHEDULE)).add(entry);
+    }
+
+    synchronized void remove(Long applicationId) {
+        Entry entry = entries.remove(applicationId);
+        if (entry == null) {
+            return;
+        }
+        removeFrom(byDeparture, entry.departureStationId(), entry);
+        removeFrom(byDestination, entry.destinationStationId(), entry);
+    }
+
+    List<Entry> match(Collection<Long> stationIds, LocalDateTime preferred, Duration window, int limit) {
+        Entry lower = new Entry(Long.MIN_VALUE, preferred.minus(window), null, null, null, null, null, null);
+        Entry upper = new Entry(Long.MAX_VALUE, preferred.plus(window), null, null, null, null, null, null);
+
+        Comparator<Match> ranking = Comparator
+                .comparing((Match match) -> !match.fromDeparture())
+                .thenComparingLong(Match::distanceSeconds)
+                .thenComparing(match -> match.entry().id());
+        PriorityQueue<Match> best = new PriorityQueue<>(limit + 1, ranking.reversed());
+        Map<Long, Match> seen = new HashMap<>();
+
+        for (Long stationId : stationIds) {
+            collect(byDeparture.get(stationId), lower, upper, true, preferred, seen);
+            collect(byDestination.get(stationId), lower, upper, false, preferred, seen);
+        }
+        for (Match match : seen.values()) {
+            best.add(match);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        List<Match> ordered = new ArrayList<>(best);
+        ordered.sort(ranking);
+        return ordered.stream().map(Match::entry).toList();
+    }
+
+    private static void collect(NavigableSet<Entry> entries, Entry lower, Entry upper, boolean fromDeparture,
+                                LocalDateTime preferred, Map<Long, Match> seen) {
+        if (entries == null) {
+            return;
+        }
+        for (Entry entry : entries.subSet(lower, true, upper, true)) {
+            long distance = Math.abs(Duration.between(preferred, entry.scheduledAt()).getSeconds());
+            Match match = new Match(entry, fromDeparture, distance);
+            seen.merge(entry.id(), match, (existing, candidate) -> existing.fromDeparture() ? existing : candidate);
+        }
+    }
+
+    private static void removeFrom(Map<Long, NavigableSet<Entry>> buckets, Long stationId, Entry entry) {
+        NavigableSet<Entry> bucket = buckets.get(stationId);
+        if (bucket == null) {
+            return;
+        }
+        bucket.remove(entry);
+        if (bucket.isEmpty()) {
+            buckets.remove(stationId, bucket);
+        }
+    }
+
+    private record Match(Entry entry, boolean fromDeparture, long distanceSeconds) {
+    }
+
+    record Entry(Long id, LocalDateTime scheduledAt, Long departureStationId, String departureStation,
+                 Long destinationStationId, String destinationStation, String comment, Long passengerId) {
+
+        static Entry of(OpenApplicationView view) {
+            return new Entry(view.id(), view.scheduledAt(), view.departureStationId(), view.departureStation(),
+                    view.destinationStationId(), view.destinationStation(), view.comment(), view.passengerId());
+        }
+
+        static Entry of(Application application) {
+            return new Entry(
+                    application.getId(),
+                    application.getScheduledAt(),
+                    application.getDepartureStation().getId(),
+                    application.getDepartureStation().getName(),
+                    application.getDestinationStation().getId(),
+                    application.getDestinationStation().getName(),
+                    application.getComment(),
+                    application.getPassenger().getId());
+        }
+
+        ApplicationResponse toResponse() {
+            return new ApplicationResponse(
+                    id,
+                    ScheduleUtil.formatDate(scheduledAt),
+                    ScheduleUtil.formatTime(scheduledAt),
+                    departureStation,
+                    destinationStation,
+                    comment,
+                    StatusEnum.NEW,
+                    passengerId,
+                    null);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.supportorganizationsapp.service.implementation;
+
+import com.example.supportorganizationsapp.dto.response.application.ApplicationStatusEvent;
+import com.example.supportorganizationsapp.enums.StatusEnum;
+import com.example.supportorganizationsapp.repository.ApplicationRepository;
+import com.example.supportorganizationsapp.repository.projection.OverdueCandidateView;
+import com.example.supportorganizationsapp.service.ApplicationMatchingService;
+import com.example.supportorganizationsapp.utils.ScheduleUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "applications.overdue", name = "enabled", matchIfMissing = true)
+public class OverdueApplicationDetector {
+
+    private static final Set<StatusEnum> SOURCES = EnumSet.of(StatusEnum.NEW, StatusEnum.ACCEPTED);
+    private static final LocalDateTime START = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final String APPLICATIONS_QUEUE = "/queue/applications";
+
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationMatchingService matchingService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration gracePeriod;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public OverdueApplicationDetector(ApplicationRepository applicationRepository,
+                                      ApplicationMatchingService matchingService,
+                                      SimpMessagingTemplate messagingTemplate,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${applications.overdue.grace-period:PT15M}") Duration gracePeriod,
+                                      @Value("${applications.overdue.batch-size:500}") int batchSize,
+                                      @Value("${applications.overdue.max-batches-per-run:20}") int maxBatchesPerRun) {
+        this.applicationRepository = applicationRepository;
+        this.matchingService = matchingService;
+        this.messagingTemplate = messagingTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.gracePeriod = gracePeriod;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @Scheduled(initialDelayString = "${applications.overdue.initial-delay:PT30S}",
+            fixedDelayString = "${applications.overdue.scan-interval:PT1M}")
+    public void detect() {
+        // Every run starts from the beginning: flipped rows leave the candidate set, so the scan stays short, and an
+        // application created or rescheduled into the past is picked up by the next run. The watermark only pages.
+        LocalDateTime watermarkScheduledAt = START;
+        Long watermarkId = 0L;
+        LocalDateTime cutoff = LocalDateTime.now().minus(gracePeriod);
+        int flipped = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<OverdueCandidateView> candidates = applicationRepository.findOverdueCandidates(
+                    SOURCES, cutoff, watermarkScheduledAt, watermarkId, PageRequest.of(0, batchSize));
+            if (candidates.isEmpty()) {
+                break;
+            }
+
+            flipped += markOverdue(candidates);
+
+            OverdueCandidateView last = candidates.get(candidates.size() - 1);
+            watermarkScheduledAt = last.scheduledAt();
+            watermarkId = last.id();
+            if (candidates.size() < batchSize) {
+                break;
+            }
+        }
+
+        if (flipped > 0) {
+            log.info("Marked {} applications as overdue", flipped);
+        }
+    }
+
+    private int markOverdue(List<OverdueCandidateView> candidates) {
+        List<Long> ids = candidates.stream().map(OverdueCandidateView::id).toList();
+        // The rows are locked before the flip, so a run on another node waits and then skips them: each row is
+        // flipped and published by exactly one run.
+        Set<Long> overdue = transactionTemplate.execute(status -> {
+            List<Long> locked = applicationRepository.lockIdsWithStatus(ids, SOURCES);
+            if (locked.isEmpty()) {
+                return Set.<Long>of();
+            }
+            applicationRepository.transitionAll(locked, SOURCES, StatusEnum.OVERDUE);
+            locked.forEach(matchingService::remove);
+            return new HashSet<>(locked);
+        });
+        for (OverdueCandidateView candidate : candidates) {
+            if (overdue.contains(candidate.id())) {
+                publish(candidate);
+            }
+        }
+        return overdue.size();
+    }
+
+    private void publish(OverdueCandidateView candidate) {
+        ApplicationStatusEvent event = new ApplicationStatusEvent(
+                candidate.id(),
+                StatusEnum.OVERDUE,
+                ScheduleUtil.formatDate(candidate.scheduledAt()),
+                ScheduleUtil.formatTime(candidate.scheduledAt()));
+        messagingTemplate.convertAndSendToUser(candidate.passengerEmail(), APPLICATIONS_QUEUE, event);
+        if (candidate.companionEmail() != null) {
+            messagingTemplate.convertAndSendToUser(candidate.companionEmail(), APPLICATIONS_QUEUE, event);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.supportorganizationsapp.service.implementation;
+
+import com.example.supportorganizationsapp.dto.response.StationDTO;
+import com.example.supportorganizationsapp.models.Station;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+final class StationIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<Long, Entry> entries;
+    private final Map<String, Set<Long>> grams;
+
+    private StationIndex(Map<Long, Entry> entries, Map<String, Set<Long>> grams) {
+        this.entries = entries;
+        this.grams = grams;
+    }
+
+    static StationIndex of(Collection<Station> stations) {
+        StationIndex index = new StationIndex(new HashMap<>(), new HashMap<>());
+        stations.forEach(index::put);
+        return index;
+    }
+
+    static String normalize(String name) {
+        return name.trim()
+                .toLowerCase(Locale.ROOT)
+                .replace('ё', 'е')
+                .replaceAll("\\s+", " ");
+    }
+
+    StationIndex with(Station station) {
+        Map<String, Set<Long>> copy = new HashMap<>();
+        grams.forEach((gram, ids) -> copy.put(gram, new HashSet<>(ids)));
+        StationIndex index = new StationIndex(new HashMap<>(entries), copy);
+        index.put(station);
+        return index;
+    }
+
+    boolean contains(Long id) {
+        return entries.containsKey(id);
+    }
+
+    List<Entry> search(String query) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+
+        Collection<Long> candidates = normalized.length() < GRAM_LENGTH
+                ? entries.keySet()
+                : candidatesFor(normalized);
+
+        List<Entry> matches = new ArrayList<>();
+        for (Long id : candidates) {
+            Entry entry = entries.get(id);
+            if (entry.normalizedName().contains(normalized)) {
+                matches.add(entry);
+            }
+        }
+        matches.sort(Comparator
+                .comparing((Entry entry) -> !entry.normalizedName().startsWith(normalized))
+                .thenComparing(Entry::normalizedName));
+        return matches;
+    }
+
+    private Set<Long> candidatesFor(String normalized) {
+        Set<Long> result = null;
+        for (String gram : gramsOf(normalized)) {
+            Set<Long> ids = grams.get(gram);
+            if (ids == null) {
+                return Set.of();
+            }
+            if (result == null) {
+                result = new HashSet<>(ids);
+            } else {
+                result.retainAll(ids);
+            }
+            if (result.isEmpty()) {
+                return result;
+            }
+        }
+        return result != null ? result : Set.of();
+    }
+
+    private void put(Station station) {
+        Entry entry = new Entry(station.getId(), station.getName(), station.getNormalizedName());
+        entries.put(entry.id(), entry);
+        for (String gram : gramsOf(entry.normalizedName())) {
+            grams.computeIfAbsent(gram, key -> new HashSet<>()).add(entry.id());
+        }
+    }
+
+    private static Set<String> gramsOf(String value) {
+        Set<String> result = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+            result.add(value.substring(i, i + GRAM_LENGTH));
+        }
+        return result;
+    }
+
+    record Entry(Long id, String name, String normalizedName) {
+
+        StationDTO toDTO() {
+            return StationDTO.builder()
+                    .id(id)
+                    .name(name)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.supportorganizationsapp.service.implementation;
+
+import com.example.supportorganizationsapp.dto.response.StationDTO;
+import com.example.supportorganizationsapp.models.Station;
+import com.example.supportorganizationsapp.repository.StationRepository;
+import com.example.supportorganizationsapp.service.StationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class StationServiceImpl implements StationService {
+
+    private static final int MAX_AUTOCOMPLETE_LIMIT = 50;
+
+    private final StationRepository stationRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private volatile StationIndex index;
+
+    @Override
+    public Station resolveStation(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Station cannot be null or empty");
+        }
+
+        String normalized = StationIndex.normalize(name);
+        Station station = stationRepository.findByNormalizedName(normalized)
+                .orElseGet(() -> createStation(name.trim(), normalized));
+        addToIndexAfterCommit(station);
+        return station;
+    }
+
+    @Override
+    public Set<Long> findStationIds(String query) {
+        return search(query).stream()
+                .map(StationIndex.Entry::id)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public List<StationDTO> autocomplete(String query, int limit) {
+        if (query == null) {
+            return List.of();
+        }
+        return search(query).stream()
+                .limit(Math.max(1, Math.min(limit, MAX_AUTOCOMPLETE_LIMIT)))
+                .map(StationIndex.Entry::toDTO)
+                .toList();
+    }
+
+    // Each node builds its own index and only adds the stations it creates, so it is reloaded periodically.
+    @Scheduled(initialDelayString = "${stations.index.rebuild-interval:PT10M}",
+            fixedDelayString = "${stations.index.rebuild-interval:PT10M}")
+    public void rebuildIndex() {
+        if (index != null) {
+            reloadIndex();
+        }
+    }
+
+    private List<StationIndex.Entry> search(String query) {
+        List<StationIndex.Entry> matches = index().search(query);
+        if (!matches.isEmpty() || query.isBlank()) {
+            return matches;
+        }
+        // A station created on another node since the last reload is missing here. Only an exact name is looked up
+        // on a miss, through the unique index; partial matches for it show up after the next scheduled reload.
+        return stationRepository.findByNormalizedName(StationIndex.normalize(query))
+                .map(station -> {
+                    addToIndex(station);
+                    return index().search(query);
+                })
+                .orElse(matches);
+    }
+
+    private synchronized void reloadIndex() {
+        index = StationIndex.of(stationRepository.findAll());
+    }
+
+    // Created in its own transaction, so losing the unique name to a concurrent request fails here rather than at
+    // the caller's flush, and the caller's session stays usable to read the winner's row back.
+    private Station createStation(String name, String normalized) {
+        TransactionTemplate insert = new TransactionTemplate(transactionManager);
+        insert.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            insert.executeWithoutResult(status -> stationRepository.saveAndFlush(Station.builder()
+                    .name(name)
+                    .normalizedName(normalized)
+                    .build()));
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent request created the station first.
+        }
+        return stationRepository.findByNormalizedName(normalized)
+                .orElseThrow(() -> new IllegalStateException("Station " + name + " was not created"));
+    }
+
+    // A caller whose transaction rolls back must not leave its stations in the shared index.
+    private void addToIndexAfterCommit(Station station) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            addToIndex(station);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                addToIndex(station);
+            }
+        });
+    }
+
+    private StationIndex index() {
+        StationIndex current = index;
+        if (current == null) {
+            synchronized (this) {
+                if (index == null) {
+                    index = StationIndex.of(stationRepository.findAll());
+                }
+                current = index;
+            }
+        }
+        return current;
+    }
+
+    private void addToIndex(Station station) {
+        if (index().contains(station.getId())) {
+            return;
+        }
+        synchronized (this) {
+            if (!index.contains(station.getId())) {
+                index = index.with(station);
+            }
+        }
+    }
+}
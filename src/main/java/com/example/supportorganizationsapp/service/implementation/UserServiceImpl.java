@@ -7,12 +7,19 @@ import com.example.supportorganizationsapp.dto.response.application.ApplicationR
 import com.example.supportorganizationsapp.enums.RoleEnum;
 import com.example.supportorganizationsapp.exception.UserException;
 import com.example.supportorganizationsapp.models.User;
+import com.example.supportorganizationsapp.repository.ApplicationRepository;
 import com.example.supportorganizationsapp.repository.UserRepository;
 import com.example.supportorganizationsapp.service.UserService;
+import com.example.supportorganizationsapp.utils.UserPrincipal;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
@@ -21,9 +28,25 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
+    private static final long PROFILE_CACHE_MAX_SIZE = 10_000;
+    // Invalidation only reaches this node, so a change or deletion made on another node is seen within this bound.
+    private static final Duration PROFILE_CACHE_TTL = Duration.ofSeconds(30);
+
     private final UserRepository userRepository;
+    private final ApplicationRepository applicationRepository;
     private final TokenProvider tokenProvider;
 
+    private final Cache<Long, User> profileCache = Caffeine.newBuilder()
+            .maximumSize(PROFILE_CACHE_MAX_SIZE)
+            .expireAfterWrite(PROFILE_CACHE_TTL)
+            .build();
+
+    // Tokens only carry the email, so it is resolved to an id before the profile lookup.
+    private final Cache<String, Long> profileIdCache = Caffeine.newBuilder()
+            .maximumSize(PROFILE_CACHE_MAX_SIZE)
+            .expireAfterWrite(PROFILE_CACHE_TTL)
+            .build();
+
     @Override
     public User findUserById(Long id) throws UserException {
         Optional<User> user = userRepository.findById(id);
@@ -35,15 +58,49 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public User findUserByProfile(String jwt) throws UserException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return findProfileById(principal.id());
+        }
         String email = String.valueOf(tokenProvider.getClaimsFromToken(jwt).get(JwtConstants.EMAIL));
         if (email == null) {
             throw new BadCredentialsException("Invalid token");
         }
-        Optional<User> user = userRepository.findByEmail(email);
-        if (user.isPresent()) {
-            return user.get();
+        return findProfileByEmail(email);
+    }
+
+    @Override
+    public User findProfileByEmail(String email) throws UserException {
+        Long id = profileIdCache.getIfPresent(email);
+        if (id != null) {
+            return findProfileById(id);
         }
-        throw new UserException("User not found with email " + email);
+        User snapshot = snapshotOf(findUserByEmail(email));
+        profileCache.put(snapshot.getId(), snapshot);
+        profileIdCache.put(email, snapshot.getId());
+        return snapshotOf(snapshot);
+    }
+
+    @Override
+    public User findProfileById(Long id) throws UserException {
+        User snapshot = profileCache.getIfPresent(id);
+        if (snapshot == null) {
+            snapshot = snapshotOf(findUserById(id));
+            profileCache.put(id, snapshot);
+        }
+        return snapshotOf(snapshot);
+    }
+
+    private static User snapshotOf(User user) {
+        User snapshot = User.builder()
+                .email(user.getEmail())
+                .phoneNumber(user.getPhoneNumber())
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .roleEnum(user.getRoleEnum())
+                .build();
+        snapshot.setId(user.getId());
+        return snapshot;
     }
 
     @Override
@@ -51,11 +108,14 @@ public class UserServiceImpl implements UserService {
         Optional<User> user = userRepository.findById(id);
         if (user.isPresent()) {
             User existingUser = user.get();
+            profileIdCache.invalidate(existingUser.getEmail());
             existingUser.setEmail(request.getEmail());
             existingUser.setPhoneNumber(request.getPhoneNumber());
             existingUser.setFirstName(request.getFirstName());
             existingUser.setLastName(request.getLastName());
-            return userRepository.save(existingUser);
+            User saved = userRepository.save(existingUser);
+            profileCache.invalidate(id);
+            return saved;
         } else {
             throw new UserException("User not found with id " + id);
         }
@@ -70,19 +130,9 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public List<ApplicationResponse> getUserApplications(Long userId) throws UserException {
-        User user = findUserById(userId);
-        return user.getApplications().stream()
-                .map(application -> new ApplicationResponse(
-                        application.getId(),
-                        application.getDate(),
-                        application.getTime(),
-                        application.getDepartureStation(),
-                        application.getDestinationStation(),
-                        application.getComment(),
-                        application.getStatus(),
-                        application.getPassenger().getId(),
-                        application.getCompanion() != null ? application.getCompanion().getId() : null
-                ))
+        findUserById(userId);
+        return applicationRepository.findByUser(userId).stream()
+                .map(ApplicationResponse::fromView)
                 .toList();
     }
     @Override
@@ -105,10 +155,10 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public void deleteUser(Long id) throws UserException {
-        if (!userRepository.existsById(id)) {
-            throw new UserException("User not found with id " + id);
-        }
+        User user = findUserById(id);
         userRepository.deleteById(id);
+        profileCache.invalidate(id);
+        profileIdCache.invalidate(user.getEmail());
     }
 
     @Override
@@ -0,0 +1,39 @@
+package com.example.supportorganizationsapp.utils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+public final class ScheduleUtil {
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
+    private ScheduleUtil() {
+    }
+
+    public static LocalDate parseDate(String date) {
+        try {
+            return LocalDate.parse(date.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Date must be in format yyyy-MM-dd: " + date);
+        }
+    }
+
+    public static LocalTime parseTime(String time) {
+        try {
+            return LocalTime.parse(time.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Time must be in format HH:mm: " + time);
+        }
+    }
+
+    public static String formatDate(LocalDateTime scheduledAt) {
+        return scheduledAt != null ? scheduledAt.toLocalDate().toString() : null;
+    }
+
+    public static String formatTime(LocalDateTime scheduledAt) {
+        return scheduledAt != null ? scheduledAt.toLocalTime().format(TIME_FORMAT) : null;
+    }
+}
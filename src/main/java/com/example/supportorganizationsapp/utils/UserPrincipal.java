@@ -0,0 +1,11 @@
+package com.example.supportorganizationsapp.utils;
+
+import java.security.Principal;
+
+public record UserPrincipal(Long id, String email) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
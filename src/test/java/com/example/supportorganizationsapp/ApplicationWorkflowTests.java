@@ -0,0 +1,341 @@
+package com.example.supportorganizationsapp;
+
+import com.example.supportorganizationsapp.config.JwtConstants;
+import com.example.supportorganizationsapp.config.TokenProvider;
+import com.example.supportorganizationsapp.enums.StatusEnum;
+import com.example.supportorganizationsapp.models.Application;
+import com.example.supportorganizationsapp.models.Station;
+import com.example.supportorganizationsapp.models.User;
+import com.example.supportorganizationsapp.repository.ApplicationRepository;
+import com.example.supportorganizationsapp.repository.StationRepository;
+import com.example.supportorganizationsapp.repository.UserRepository;
+import com.example.supportorganizationsapp.repository.projection.OpenApplicationView;
+import com.example.supportorganizationsapp.service.ApplicationMatchingService;
+import com.example.supportorganizationsapp.service.StationService;
+import com.example.supportorganizationsapp.service.implementation.ApplicationMatchingServiceImpl;
+import com.example.supportorganizationsapp.service.implementation.OverdueApplicationDetector;
+import com.example.supportorganizationsapp.utils.ScheduleUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ApplicationWorkflowTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private StationService stationService;
+
+    @Autowired
+    private StationRepository stationRepository;
+
+    @Autowired
+    private ApplicationMatchingService matchingService;
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User passenger;
+    private User companion;
+    private String passengerToken;
+    private String companionToken;
+    private Station departure;
+    private Station destination;
+
+    @BeforeEach
+    void setUp() {
+        passenger = userRepository.findByEmail("passenger@example.com").orElseThrow();
+        companion = userRepository.findByEmail("companion@example.com").orElseThrow();
+        passengerToken = bearer(passenger);
+        companionToken = bearer(companion);
+        departure = stationService.resolveStation("Новослабодская");
+        destination = stationService.resolveStation("Менделеевская");
+    }
+
+    @Test
+    void secondClaimIsRejected() throws Exception {
+        Long id = createApplication(LocalDateTime.now().plusDays(3), StatusEnum.NEW);
+
+        mockMvc.perform(put("/applications/{id}/assigned", id).header(JwtConstants.TOKEN_HEADER, companionToken))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/applications/{id}/accept", id).param("companionId", passenger.getId().toString())
+                        .header(JwtConstants.TOKEN_HEADER, passengerToken))
+                .andExpect(status().isConflict());
+
+        assertEquals(companion.getId(), applicationRepository.findViewById(id).orElseThrow().companionId());
+    }
+
+    @Test
+    void updateCannotReplaceClaimedCompanion() throws Exception {
+        Long id = createApplication(LocalDateTime.now().plusDays(3), StatusEnum.NEW);
+        mockMvc.perform(put("/applications/{id}/assigned", id).header(JwtConstants.TOKEN_HEADER, companionToken))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(update(id, Map.of("companionId", passenger.getId(), "comment", "Другой сопровождающий")))
+                .andExpect(status().isConflict());
+
+        assertEquals(companion.getId(), applicationRepository.findViewById(id).orElseThrow().companionId());
+    }
+
+    @Test
+    void updateCannotAcceptWithoutCompanion() throws Exception {
+        Long id = createApplication(LocalDateTime.now().plusDays(3), StatusEnum.NEW);
+
+        mockMvc.perform(update(id, Map.of("status", StatusEnum.ACCEPTED)))
+                .andExpect(status().isBadRequest());
+
+        assertEquals(StatusEnum.NEW, applicationRepository.findStatusById(id).orElseThrow());
+    }
+
+    @Test
+    void illegalTransitionIsRejected() throws Exception {
+        Long id = createApplication(LocalDateTime.now().plusDays(3), StatusEnum.NEW);
+
+        mockMvc.perform(post("/applications/{id}/complete", id).header(JwtConstants.TOKEN_HEADER, passengerToken))
+                .andExpect(status().isConflict());
+        mockMvc.perform(post("/applications/{id}/cancel", id).header(JwtConstants.TOKEN_HEADER, passengerToken))
+                .andExpect(status().isOk());
+        mockMvc.perform(update(id, Map.of("status", StatusEnum.INPROGRESS, "comment", "Поздно")))
+                .andExpect(status().isConflict());
+
+        assertEquals(StatusEnum.CANCELED, applicationRepository.findStatusById(id).orElseThrow());
+    }
+
+    @Test
+    void entityUpdateDoesNotRevertConcurrentTransition() {
+        Long id = createApplication(LocalDateTime.now().plusDays(3), StatusEnum.NEW);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        TransactionTemplate concurrent = new TransactionTemplate(transactionManager);
+        concurrent.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        transaction.executeWithoutResult(status -> {
+            Application application = applicationRepository.findById(id).orElseThrow();
+            CompletableFuture.runAsync(() -> concurrent.executeWithoutResult(inner -> applicationRepository.transition(
+                    id, StatusEnum.sourcesOf(StatusEnum.CANCELED), StatusEnum.CANCELED))).join();
+            application.setComment("Изменённый комментарий");
+            applicationRepository.save(application);
+        });
+
+        assertEquals(StatusEnum.CANCELED, applicationRepository.findStatusById(id).orElseThrow());
+    }
+
+    @Test
+    void batchCancelReportsPartialConflict() throws Exception {
+        Long open = createApplication(LocalDateTime.now().plusDays(3), StatusEnum.NEW);
+        Long completed = createApplication(LocalDateTime.now().plusDays(3), StatusEnum.COMPLETED);
+
+        mockMvc.perform(post("/applications/batch/cancel")
+                        .header(JwtConstants.TOKEN_HEADER, passengerToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(open, completed))))
+                .andExpect(status().isConflict());
+
+        assertEquals(StatusEnum.NEW, applicationRepository.findStatusById(open).orElseThrow());
+        assertEquals(StatusEnum.COMPLETED, applicationRepository.findStatusById(completed).orElseThrow());
+    }
+
+    @Test
+    void updatesRejectApplicationsOfOtherPassengers() throws Exception {
+        Long id = createApplication(LocalDateTime.now().plusDays(3), StatusEnum.NEW);
+
+        mockMvc.perform(post("/applications/batch/cancel")
+                        .header(JwtConstants.TOKEN_HEADER, companionToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(id))))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(put("/applications/batch")
+                        .header(JwtConstants.TOKEN_HEADER, companionToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(Map.of("id", id, "comment", "Чужая заявка")))))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(put("/applications/{id}", id)
+                        .header(JwtConstants.TOKEN_HEADER, companionToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("comment", "Чужая заявка"))))
+                .andExpect(status().isNotFound());
+
+        assertEquals(StatusEnum.NEW, applicationRepository.findStatusById(id).orElseThrow());
+        assertNull(applicationRepository.findViewById(id).orElseThrow().comment());
+    }
+
+    @Test
+    void overdueDetectorFlipsOnlyOpenApplicationsPastCutoff() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        Long pastNew = createApplication(now.minusHours(3), StatusEnum.NEW);
+        Long pastAccepted = createApplication(now.minusHours(2), StatusEnum.ACCEPTED);
+        Long pastCanceled = createApplication(now.minusHours(2), StatusEnum.CANCELED);
+        Long withinGrace = createApplication(now.minusMinutes(5), StatusEnum.NEW);
+        Long future = createApplication(now.plusHours(2), StatusEnum.NEW);
+
+        OverdueApplicationDetector detector = new OverdueApplicationDetector(applicationRepository, matchingService,
+                messagingTemplate, transactionManager, Duration.ofMinutes(15), 2, 20);
+        detector.detect();
+
+        assertEquals(StatusEnum.OVERDUE, applicationRepository.findStatusById(pastNew).orElseThrow());
+        assertEquals(StatusEnum.OVERDUE, applicationRepository.findStatusById(pastAccepted).orElseThrow());
+        assertEquals(StatusEnum.CANCELED, applicationRepository.findStatusById(pastCanceled).orElseThrow());
+        assertEquals(StatusEnum.NEW, applicationRepository.findStatusById(withinGrace).orElseThrow());
+        assertEquals(StatusEnum.NEW, applicationRepository.findStatusById(future).orElseThrow());
+
+        // Rows created behind where the previous run stopped must be flagged by the very next run.
+        Long behindWatermark = createApplication(now.minusHours(4), StatusEnum.NEW);
+        Long pastWatermark = createApplication(now.minusHours(1), StatusEnum.NEW);
+        detector.detect();
+
+        assertEquals(StatusEnum.OVERDUE, applicationRepository.findStatusById(behindWatermark).orElseThrow());
+        assertEquals(StatusEnum.OVERDUE, applicationRepository.findStatusById(pastWatermark).orElseThrow());
+    }
+
+    @Test
+    void rolledBackWriteDoesNotReachMatchingIndex() {
+        LocalDateTime scheduledAt = LocalDateTime.now().plusDays(4).truncatedTo(ChronoUnit.MINUTES);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Long committed = transaction.execute(status -> {
+            Application application = applicationRepository.findById(createApplication(scheduledAt, StatusEnum.NEW))
+                    .orElseThrow();
+            matchingService.refresh(application);
+            return application.getId();
+        });
+
+        Long rolledBack = transaction.execute(status -> {
+            Application application = applicationRepository.findById(createApplication(scheduledAt, StatusEnum.NEW))
+                    .orElseThrow();
+            matchingService.refresh(application);
+            matchingService.remove(committed);
+            status.setRollbackOnly();
+            return application.getId();
+        });
+
+        List<Long> matched = matchingService.findMatches("Новослабодская", ScheduleUtil.formatDate(scheduledAt),
+                        ScheduleUtil.formatTime(scheduledAt), 30, 50).stream()
+                .map(response -> response.id)
+                .toList();
+        assertTrue(matched.contains(committed), "A rolled back removal reached the index");
+        assertFalse(matched.contains(rolledBack), "A rolled back application reached the index");
+    }
+
+    @Test
+    void claimCommittedDuringRebuildIsNotLost() {
+        LocalDateTime scheduledAt = LocalDateTime.now().plusDays(6).truncatedTo(ChronoUnit.MINUTES);
+        Long claimed = createApplication(scheduledAt, StatusEnum.NEW);
+        ApplicationRepository repository = mock(ApplicationRepository.class,
+                AdditionalAnswers.delegatesTo(applicationRepository));
+        ApplicationMatchingServiceImpl matching = new ApplicationMatchingServiceImpl(repository, stationService);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        AtomicBoolean rebuilding = new AtomicBoolean();
+        doAnswer(invocation -> {
+            List<OpenApplicationView> snapshot = applicationRepository.findOpenForMatching();
+            if (rebuilding.get()) {
+                // The claim commits after the snapshot was read but before the rebuilt index is published.
+                CompletableFuture.runAsync(() -> transaction.executeWithoutResult(status -> {
+                    applicationRepository.claim(claimed, companion, StatusEnum.ACCEPTED);
+                    matching.remove(claimed);
+                })).join();
+            }
+            return snapshot;
+        }).when(repository).findOpenForMatching();
+
+        assertTrue(matchedIds(matching, scheduledAt).contains(claimed));
+        rebuilding.set(true);
+        matching.rebuildIndex();
+
+        assertFalse(matchedIds(matching, scheduledAt).contains(claimed), "A claim made during a rebuild was lost");
+    }
+
+    @Test
+    void stationCreatedOnAnotherNodeIsMatched() {
+        stationService.findStationIds("Новослабодская");
+        // Saved through the repository, as another node would, so this node's station index never saw it.
+        Station elsewhere = stationRepository.save(Station.builder()
+                .name("Савёловская")
+                .normalizedName("савеловская")
+                .build());
+        LocalDateTime scheduledAt = LocalDateTime.now().plusDays(5).truncatedTo(ChronoUnit.MINUTES);
+        Long id = new TransactionTemplate(transactionManager).execute(status -> {
+            Application application = applicationRepository.save(new Application(scheduledAt, elsewhere, destination,
+                    null, StatusEnum.NEW, passenger, null));
+            matchingService.refresh(application);
+            return application.getId();
+        });
+
+        List<Long> matched = matchingService.findMatches("савёлов", ScheduleUtil.formatDate(scheduledAt),
+                        ScheduleUtil.formatTime(scheduledAt), 30, 50).stream()
+                .map(response -> response.id)
+                .toList();
+        assertEquals(List.of(id), matched);
+    }
+
+    private List<Long> matchedIds(ApplicationMatchingService matching, LocalDateTime scheduledAt) {
+        return matching.findMatches("Новослабодская", ScheduleUtil.formatDate(scheduledAt),
+                        ScheduleUtil.formatTime(scheduledAt), 30, 50).stream()
+                .map(response -> response.id)
+                .toList();
+    }
+
+    private Long createApplication(LocalDateTime scheduledAt, StatusEnum status) {
+        User assigned = status == StatusEnum.NEW || status == StatusEnum.CANCELED ? null : companion;
+        return applicationRepository.save(new Application(scheduledAt, departure, destination, null, status,
+                passenger, assigned)).getId();
+    }
+
+    private org.springframework.test.web.servlet.RequestBuilder update(Long id, Map<String, Object> body) throws Exception {
+        return put("/applications/{id}", id)
+                .header(JwtConstants.TOKEN_HEADER, passengerToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(body));
+    }
+
+    private String bearer(User user) {
+        return "Bearer " + tokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(user.getEmail(), null, List.of()), JwtConstants.ACCESS_TOKEN_VALIDITY);
+    }
+}
@@ -0,0 +1,222 @@
+package com.example.supportorganizationsapp;
+
+import com.example.supportorganizationsapp.enums.RoleEnum;
+import com.example.supportorganizationsapp.models.User;
+import com.example.supportorganizationsapp.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "auth.password-hashing.pool-size=1",
+        "auth.password-hashing.queue-capacity=4",
+        "auth.password-hashing.wait-timeout=PT30S",
+        "auth.signin.account.max-failures=3",
+        "auth.signin.ip.max-attempts=12"
+})
+@ActiveProfiles("test")
+class LoginThrottleTests {
+
+    private static final String PASSWORD = "secret123";
+    private static final int MAX_ACCOUNT_FAILURES = 3;
+    private static final int MAX_IP_ATTEMPTS = 12;
+    private static final int HASHING_QUEUE_CAPACITY = 4;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void accountIsThrottledAfterMaxFailures() {
+        String email = createUser();
+        for (int i = 0; i < MAX_ACCOUNT_FAILURES; i++) {
+            assertEquals(HttpStatus.BAD_REQUEST, signIn(email, "wrong", "198.51.100.1").getStatusCode());
+        }
+
+        ResponseEntity<String> throttled = signIn(email, PASSWORD, "198.51.100.1");
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, throttled.getStatusCode());
+        assertNotNull(throttled.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void parallelGuessesDoNotExceedAccountLimit() throws Exception {
+        String email = createUser();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<HttpStatusCode>> guesses = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(10)) {
+            for (int i = 0; i < 10; i++) {
+                String password = "wrong-" + i;
+                guesses.add(executor.submit(() -> {
+                    start.await();
+                    return signIn(email, password, "198.51.100.2").getStatusCode();
+                }));
+            }
+            start.countDown();
+
+            List<HttpStatusCode> statuses = new ArrayList<>();
+            for (Future<HttpStatusCode> guess : guesses) {
+                statuses.add(guess.get(30, TimeUnit.SECONDS));
+            }
+            assertEquals(MAX_ACCOUNT_FAILURES, statuses.stream().filter(HttpStatus.BAD_REQUEST::equals).count());
+            assertEquals(10 - MAX_ACCOUNT_FAILURES,
+                    statuses.stream().filter(HttpStatus.TOO_MANY_REQUESTS::equals).count());
+        }
+    }
+
+    @Test
+    void successfulSignInClearsFailures() {
+        String email = createUser();
+        for (int i = 0; i < MAX_ACCOUNT_FAILURES - 1; i++) {
+            assertEquals(HttpStatus.BAD_REQUEST, signIn(email, "wrong", "198.51.100.3").getStatusCode());
+        }
+        assertEquals(HttpStatus.ACCEPTED, signIn(email, PASSWORD, "198.51.100.3").getStatusCode());
+
+        for (int i = 0; i < MAX_ACCOUNT_FAILURES - 1; i++) {
+            assertEquals(HttpStatus.BAD_REQUEST, signIn(email, "wrong", "198.51.100.3").getStatusCode());
+        }
+        assertEquals(HttpStatus.ACCEPTED, signIn(email, PASSWORD, "198.51.100.3").getStatusCode());
+    }
+
+    @Test
+    void addressIsThrottledByForwardedClientIp() {
+        for (int i = 0; i < MAX_IP_ATTEMPTS; i++) {
+            assertEquals(HttpStatus.BAD_REQUEST, signIn(unknownEmail(), "wrong", "203.0.113.7").getStatusCode());
+        }
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, signIn(unknownEmail(), "wrong", "203.0.113.7").getStatusCode());
+        // The proxy itself is the same for both clients, so only the forwarded address tells them apart.
+        assertEquals(HttpStatus.BAD_REQUEST, signIn(unknownEmail(), "wrong", "203.0.113.8").getStatusCode());
+    }
+
+    @Test
+    void saturatedHashingPoolReturnsServiceUnavailableWithoutCountingFailures() throws Exception {
+        String email = createUser();
+        String hash = passwordEncoder.encode(PASSWORD);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<Boolean>> occupied = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(HASHING_QUEUE_CAPACITY + 1)) {
+            try {
+                // One hash running and the queue full. The first task is handed over before the rest are queued,
+                // otherwise an idle worker that has not picked it up yet leaves one queue slot short.
+                occupied.add(executor.submit(() -> passwordEncoder.matches(blockingPassword(release), hash)));
+                awaitHashingPool(1, 0);
+                for (int i = 0; i < HASHING_QUEUE_CAPACITY; i++) {
+                    occupied.add(executor.submit(() -> passwordEncoder.matches(blockingPassword(release), hash)));
+                }
+                awaitHashingPool(1, HASHING_QUEUE_CAPACITY);
+
+                for (int i = 0; i < MAX_ACCOUNT_FAILURES + 1; i++) {
+                    ResponseEntity<String> busy = signIn(email, PASSWORD, "198.51.100.4");
+                    assertEquals(HttpStatus.SERVICE_UNAVAILABLE, busy.getStatusCode());
+                    assertNotNull(busy.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+                }
+            } finally {
+                release.countDown();
+            }
+            for (Future<Boolean> hashing : occupied) {
+                assertTrue(hashing.get(10, TimeUnit.SECONDS));
+            }
+        }
+
+        assertEquals(HttpStatus.ACCEPTED, signIn(email, PASSWORD, "198.51.100.4").getStatusCode());
+    }
+
+    private void awaitHashingPool(int active, int queued) throws InterruptedException {
+        for (int i = 0; i < 50; i++) {
+            if (meterRegistry.get("auth.password.hashing.active.threads").gauge().value() == active
+                    && meterRegistry.get("auth.password.hashing.queue.size").gauge().value() == queued) {
+                return;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("Hashing pool did not reach " + active + " active and " + queued + " queued");
+    }
+
+    private ResponseEntity<String> signIn(String email, String password, String clientIp) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.add("X-Forwarded-For", clientIp);
+        return restTemplate.postForEntity("/auth/signin",
+                new HttpEntity<>(Map.of("email", email, "password", password), headers), String.class);
+    }
+
+    private String createUser() {
+        String email = unknownEmail();
+        userRepository.save(User.builder()
+                .email(email)
+                .phoneNumber(String.format("+7900%07d", ThreadLocalRandom.current().nextInt(10_000_000)))
+                .firstName("Тест")
+                .lastName("Тестов")
+                .password(passwordEncoder.encode(PASSWORD))
+                .roleEnum(RoleEnum.PASSENGER)
+                .build());
+        return email;
+    }
+
+    private static String unknownEmail() {
+        return UUID.randomUUID() + "@example.com";
+    }
+
+    // BCrypt reads the raw password on the hashing thread, so this keeps that thread busy until released.
+    private static CharSequence blockingPassword(CountDownLatch release) {
+        return new CharSequence() {
+            @Override
+            public String toString() {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return PASSWORD;
+            }
+
+            @Override
+            public int length() {
+                return PASSWORD.length();
+            }
+
+            @Override
+            public char charAt(int index) {
+                return PASSWORD.charAt(index);
+            }
+
+            @Override
+            public CharSequence subSequence(int start, int end) {
+                return PASSWORD.subSequence(start, end);
+            }
+        };
+    }
+}
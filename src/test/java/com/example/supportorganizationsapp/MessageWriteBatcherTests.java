@@ -0,0 +1,115 @@
+package com.example.supportorganizationsapp;
+
+import com.example.supportorganizationsapp.models.Chat;
+import com.example.supportorganizationsapp.models.Message;
+import com.example.supportorganizationsapp.models.User;
+import com.example.supportorganizationsapp.repository.ChatRepository;
+import com.example.supportorganizationsapp.repository.MessageRepository;
+import com.example.supportorganizationsapp.repository.UserRepository;
+import com.example.supportorganizationsapp.service.implementation.MessageWriteBatcher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MessageWriteBatcherTests {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private ChatRepository chatRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private MessageWriteBatcher batcher;
+    private User passenger;
+    private Chat chat;
+
+    @BeforeEach
+    void setUp() {
+        passenger = userRepository.findByEmail("passenger@example.com").orElseThrow();
+        chat = chatRepository.findChatByUserId(passenger.getId()).get(0);
+    }
+
+    @AfterEach
+    void stop() throws InterruptedException {
+        if (batcher != null) {
+            batcher.stop();
+        }
+    }
+
+    @Test
+    void burstIsPersistedInSubmissionOrder() throws Exception {
+        batcher = new MessageWriteBatcher(messageRepository, chatRepository, transactionTemplate, 100, 100);
+        // Queued before the writer starts, so the whole burst is drained into one batch.
+        List<CompletableFuture<Message>> results = IntStream.range(0, 10)
+                .mapToObj(i -> batcher.submit(message("Сообщение " + i)))
+                .toList();
+        batcher.start();
+
+        long previousId = 0;
+        for (int i = 0; i < results.size(); i++) {
+            Message saved = results.get(i).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertEquals("Сообщение " + i, saved.getContent());
+            assertTrue(saved.getId() > previousId, "Message ids do not follow submission order");
+            previousId = saved.getId();
+        }
+        assertEquals(previousId, chatRepository.findById(chat.getId()).orElseThrow().getLastMessageId());
+    }
+
+    @Test
+    void badMessageFailsOnlyItsOwnSender() throws Exception {
+        batcher = new MessageWriteBatcher(messageRepository, chatRepository, transactionTemplate, 100, 100);
+        CompletableFuture<Message> before = batcher.submit(message("До"));
+        CompletableFuture<Message> tooLong = batcher.submit(message("x".repeat(1000)));
+        CompletableFuture<Message> after = batcher.submit(message("После"));
+        batcher.start();
+
+        Message first = before.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        Message last = after.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertThrows(ExecutionException.class, () -> tooLong.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(messageRepository.existsById(first.getId()));
+        assertTrue(messageRepository.existsById(last.getId()));
+    }
+
+    @Test
+    void submitIsRejectedWhenQueueIsFull() {
+        batcher = new MessageWriteBatcher(messageRepository, chatRepository, transactionTemplate, 100, 1);
+        CompletableFuture<Message> queued = batcher.submit(message("В очереди"));
+        CompletableFuture<Message> rejected = batcher.submit(message("Лишнее"));
+
+        assertFalse(queued.isDone());
+        ExecutionException e = assertThrows(ExecutionException.class, () -> rejected.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, e.getCause());
+    }
+
+    private Message message(String content) {
+        return new Message(content, LocalDateTime.now(), passenger, chat);
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.supportorganizationsapp;
+
+import com.example.supportorganizationsapp.config.JwtConstants;
+import com.example.supportorganizationsapp.config.TokenProvider;
+import com.example.supportorganizationsapp.models.User;
+import com.example.supportorganizationsapp.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class QueryBudgetTests {
+
+    private static final int EXTRA_CHATS = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User passenger;
+    private User companion;
+    private String passengerToken;
+    private String companionToken;
+    private Long chatId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        passenger = userRepository.findByEmail("passenger@example.com").orElseThrow();
+        companion = userRepository.findByEmail("companion@example.com").orElseThrow();
+        passengerToken = bearer(passenger);
+        companionToken = bearer(companion);
+
+        // Every list below must hold several rows, otherwise a per-row query is indistinguishable from a join.
+        for (int i = 0; i < EXTRA_CHATS; i++) {
+            chatId = createGroupChat("Группа " + i);
+            sendMessage(passengerToken, chatId, "Сообщение пассажира " + i);
+            sendMessage(companionToken, chatId, "Сообщение сопровождающего " + i);
+        }
+        createApplications();
+    }
+
+    @Test
+    void chatListsFitBudget() throws Exception {
+        assertQueryBudget(3, get("/api/chats/user").header(JwtConstants.TOKEN_HEADER, passengerToken));
+        // Chat lists load admins and users as one batch statement each instead of joining both collections.
+        assertQueryBudget(7, get("/api/chats/with-user/{userId}", companion.getId())
+                .header(JwtConstants.TOKEN_HEADER, passengerToken));
+        assertQueryBudget(7, get("/api/chats/search").param("name", "Группа")
+                .header(JwtConstants.TOKEN_HEADER, passengerToken));
+        assertQueryBudget(3, get("/api/chats/{id}", chatId).header(JwtConstants.TOKEN_HEADER, passengerToken));
+    }
+
+    @Test
+    void messageListsFitBudget() throws Exception {
+        assertQueryBudget(4, get("/api/messages/chat/{chatId}", chatId)
+                .header(JwtConstants.TOKEN_HEADER, passengerToken));
+    }
+
+    @Test
+    void applicationListsFitBudget() throws Exception {
+        assertQueryBudget(2, get("/api/users/{userId}/applications", passenger.getId())
+                .header(JwtConstants.TOKEN_HEADER, passengerToken));
+        assertQueryBudget(1, get("/applications").header(JwtConstants.TOKEN_HEADER, passengerToken));
+        assertQueryBudget(2, get("/applications/passenger").header(JwtConstants.TOKEN_HEADER, passengerToken));
+        assertQueryBudget(1, get("/applications/search").header(JwtConstants.TOKEN_HEADER, passengerToken));
+        assertQueryBudget(1, get("/applications/active").header(JwtConstants.TOKEN_HEADER, passengerToken));
+    }
+
+    private void assertQueryBudget(int budget, RequestBuilder request) throws Exception {
+        QueryCountInspector.reset();
+        mockMvc.perform(request).andExpect(status().isOk());
+        List<String> statements = QueryCountInspector.statements();
+        assertTrue(statements.size() <= budget, () -> "Expected at most " + budget + " statements, got "
+                + statements.size() + ":\n" + String.join("\n", statements));
+    }
+
+    private Long createGroupChat(String name) throws Exception {
+        String body = objectMapper.writeValueAsString(Map.of("chatName", name, "userIds", List.of(passenger.getId(), companion.getId())));
+        String response = mockMvc.perform(post("/api/chats/group")
+                        .header(JwtConstants.TOKEN_HEADER, passengerToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode chat = objectMapper.readTree(response);
+        return chat.get("id").asLong();
+    }
+
+    private void sendMessage(String token, Long chatId, String content) throws Exception {
+        String body = objectMapper.writeValueAsString(Map.of("chatId", chatId, "content", content));
+        mockMvc.perform(post("/api/messages/create")
+                        .header(JwtConstants.TOKEN_HEADER, token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk());
+    }
+
+    private void createApplications() throws Exception {
+        Map<String, String> application = Map.of(
+                "date", "2030-06-01",
+                "time", "08:15",
+                "departureStation", "Новослабодская",
+                "destinationStation", "Менделеевская");
+        mockMvc.perform(post("/applications/batch")
+                        .header(JwtConstants.TOKEN_HEADER, passengerToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(application, application, application))))
+                .andExpect(status().isCreated());
+    }
+
+    private String bearer(User user) {
+        return "Bearer " + tokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(user.getEmail(), null, List.of()), JwtConstants.ACCESS_TOKEN_VALIDITY);
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.supportorganizationsapp;
+
+import com.example.supportorganizationsapp.config.JwtConstants;
+import com.example.supportorganizationsapp.config.TokenProvider;
+import com.example.supportorganizationsapp.models.User;
+import com.example.supportorganizationsapp.repository.ChatRepository;
+import com.example.supportorganizationsapp.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.CompositeMessageConverter;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class RealtimeChatTests {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ChatRepository chatRepository;
+
+    private final List<StompSession> sessions = new ArrayList<>();
+
+    private User passenger;
+    private User companion;
+    private Long chatId;
+
+    @BeforeEach
+    void setUp() {
+        passenger = userRepository.findByEmail("passenger@example.com").orElseThrow();
+        companion = userRepository.findByEmail("companion@example.com").orElseThrow();
+        chatId = chatRepository.findChatByUserId(passenger.getId()).get(0).getId();
+    }
+
+    @AfterEach
+    void disconnect() {
+        sessions.stream().filter(StompSession::isConnected).forEach(StompSession::disconnect);
+    }
+
+    @Test
+    void sendToBrokerDestinationIsRefused() throws Exception {
+        BlockingQueue<JsonNode> received = new LinkedBlockingQueue<>();
+        StompSession subscriber = connect(companion, new LinkedBlockingQueue<>());
+        subscribe(subscriber, "/topic/chats/" + chatId, received);
+        send(subscriber, chatId, "Подписка активна");
+        assertNotNull(received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS), "Subscriber did not receive its own message");
+
+        StompSession sender = connect(passenger, new LinkedBlockingQueue<>());
+        StompHeaders headers = new StompHeaders();
+        headers.setDestination("/topic/chats/" + chatId);
+        sender.send(headers, Map.of("content", "Поддельное сообщение"));
+        send(sender, chatId, "Настоящее сообщение");
+
+        // Frames of one session are handled in order, so the forged frame would have arrived first.
+        JsonNode first = received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertNotNull(first, "The message sent through /app did not arrive");
+        assertEquals("Настоящее сообщение", first.get("content").asText());
+        assertNull(received.poll(1, TimeUnit.SECONDS), "A SEND to a broker destination reached the chat topic");
+    }
+
+    @Test
+    void messagesArriveInSendOrder() throws Exception {
+        BlockingQueue<JsonNode> received = new LinkedBlockingQueue<>();
+        StompSession subscriber = connect(companion, new LinkedBlockingQueue<>());
+        subscribe(subscriber, "/topic/chats/" + chatId, received);
+        send(subscriber, chatId, "Подписка активна");
+        assertNotNull(received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS), "Subscriber did not receive its own message");
+
+        StompSession sender = connect(passenger, new LinkedBlockingQueue<>());
+        for (int i = 0; i < 20; i++) {
+            send(sender, chatId, "Сообщение " + i);
+        }
+
+        for (int i = 0; i < 20; i++) {
+            JsonNode message = received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertNotNull(message, "Message " + i + " did not arrive");
+            assertEquals("Сообщение " + i, message.get("content").asText());
+        }
+    }
+
+    @Test
+    void rejectedMessagesAreReportedToSender() throws Exception {
+        BlockingQueue<JsonNode> errors = new LinkedBlockingQueue<>();
+        StompSession sender = connect(passenger, new LinkedBlockingQueue<>());
+        subscribe(sender, "/user/queue/errors", errors);
+
+        send(sender, chatId, " ");
+        JsonNode invalid = errors.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertNotNull(invalid, "Validation error was not sent to /user/queue/errors");
+        assertEquals("Message content cannot be empty", invalid.get("error").asText());
+
+        // Longer than the content column, so the insert itself fails in the writer.
+        send(sender, chatId, "x".repeat(1000));
+        JsonNode failed = errors.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertNotNull(failed, "Write failure was not sent to /user/queue/errors");
+        assertEquals("Message could not be saved", failed.get("error").asText());
+    }
+
+    private StompSession connect(User user, BlockingQueue<String> errors) throws Exception {
+        WebSocketStompClient client = new WebSocketStompClient(
+                new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+        // ERROR frames carry a text/plain body, chat events are JSON.
+        client.setMessageConverter(new CompositeMessageConverter(
+                List.of(new StringMessageConverter(), new MappingJackson2MessageConverter())));
+
+        WebSocketHttpHeaders handshakeHeaders = new WebSocketHttpHeaders();
+        handshakeHeaders.setOrigin("http://localhost:3000");
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add(JwtConstants.TOKEN_HEADER, bearer(user));
+
+        StompSession session = client.connectAsync("http://localhost:" + port + "/ws", handshakeHeaders, connectHeaders,
+                new StompSessionHandlerAdapter() {
+                    @Override
+                    public void handleFrame(StompHeaders headers, Object payload) {
+                        errors.add(String.valueOf(headers.getFirst("message")));
+                    }
+                }).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        sessions.add(session);
+        return session;
+    }
+
+    private void subscribe(StompSession session, String destination, BlockingQueue<JsonNode> received) {
+        session.subscribe(destination, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return JsonNode.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.add((JsonNode) payload);
+            }
+        });
+    }
+
+    private void send(StompSession session, Long chatId, String content) {
+        session.send("/app/messages", Map.of("chatId", chatId, "content", content));
+    }
+
+    private String bearer(User user) {
+        return "Bearer " + tokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(user.getEmail(), null, List.of()), JwtConstants.ACCESS_TOKEN_VALIDITY);
+    }
+}
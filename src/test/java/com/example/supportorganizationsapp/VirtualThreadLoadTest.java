@@ -0,0 +1,196 @@
+package com.example.supportorganizationsapp;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("load")
+class VirtualThreadLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadLoadTest.class);
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 200);
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("load.warmup-seconds", 5));
+    private static final Duration MEASUREMENT = Duration.ofSeconds(Long.getLong("load.duration-seconds", 15));
+    private static final int PLATFORM_THREADS = Integer.getInteger("load.platform-threads", 50);
+    private static final int SIGNIN_EVERY = 10;
+    private static final String PASSWORD = "load-test-password";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    @Test
+    void compareVirtualAndPlatformThreads() throws Exception {
+        Result platform = run("platform");
+        Result virtual = run("virtual-threads");
+
+        log.info(String.format("%-16s %12s %10s %10s %10s %8s", "mode", "requests/s", "p50 ms", "p95 ms", "p99 ms", "errors"));
+        for (Result result : List.of(platform, virtual)) {
+            log.info(String.format("%-16s %12.1f %10.1f %10.1f %10.1f %8d", result.mode(), result.throughput(),
+                    result.percentile(50), result.percentile(95), result.percentile(99), result.errors()));
+        }
+        log.info(String.format("throughput change: %+.1f%%, p99 change: %+.1f%%",
+                change(platform.throughput(), virtual.throughput()),
+                change(platform.percentile(99), virtual.percentile(99))));
+
+        assertEquals(0, platform.errors(), "Platform thread run had failed requests");
+        assertEquals(0, virtual.errors(), "Virtual thread run had failed requests");
+        assertTrue(virtual.requests() > 0 && platform.requests() > 0);
+    }
+
+    private Result run(String mode) throws Exception {
+        List<String> profiles = new ArrayList<>(List.of("test"));
+        if (!"platform".equals(mode)) {
+            profiles.add(mode);
+        }
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SupportOrganizationsAppApplication.class)
+                .profiles(profiles.toArray(String[]::new))
+                .run(
+                        "--server.port=0",
+                        "--server.tomcat.threads.max=" + PLATFORM_THREADS,
+                        "--auth.signin.ip.max-attempts=" + Integer.MAX_VALUE,
+                        "--spring.datasource.url=jdbc:h2:mem:load_" + mode.replace('-', '_')
+                                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.example.supportorganizationsapp.VirtualThreadLoadTest=INFO",
+                        "--logging.level.org.hibernate.SQL=WARN")) {
+            String baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+            String email = "load-" + mode + "@example.com";
+            String token = signUp(baseUrl, email);
+
+            drive(baseUrl, email, token, WARMUP, new ArrayList<>(), new AtomicLong());
+
+            List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+            AtomicLong errors = new AtomicLong();
+            long started = System.nanoTime();
+            drive(baseUrl, email, token, MEASUREMENT, latencies, errors);
+            double seconds = (System.nanoTime() - started) / 1e9;
+
+            return new Result(mode, new ArrayList<>(latencies), errors.get(), seconds);
+        }
+    }
+
+    private void drive(String baseUrl, String email, String token, Duration duration, List<Long> latencies,
+                       AtomicLong errors) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        String login = json(Map.of("email", email, "password", PASSWORD));
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int client = 0; client < CONCURRENCY; client++) {
+                clients.submit(() -> {
+                    long iteration = 0;
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = switch ((int) (iteration++ % SIGNIN_EVERY)) {
+                            case 0 -> post(baseUrl + "/auth/signin", login);
+                            case 1, 2, 3, 4 -> get(baseUrl + "/applications/passenger", token);
+                            default -> get(baseUrl + "/api/chats/user", token);
+                        };
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies.add(System.nanoTime() - start);
+                    }
+                    return null;
+                });
+            }
+            clients.shutdown();
+            clients.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS);
+        }
+    }
+
+    private String signUp(String baseUrl, String email) throws Exception {
+        String body = json(Map.of(
+                "email", email,
+                "phoneNumber", "79990000000",
+                "firstName", "Нагрузочный",
+                "lastName", "Тест",
+                "password", PASSWORD));
+        HttpResponse<String> response = httpClient.send(post(baseUrl + "/auth/signup/passenger", body),
+                HttpResponse.BodyHandlers.ofString());
+        JsonNode login = objectMapper.readTree(response.body());
+        return "Bearer " + login.get("accessToken").asText();
+    }
+
+    private HttpRequest get(String url, String token) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Authorization", token)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String url, String body) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private String json(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static double change(double before, double after) {
+        return before == 0 ? 0 : (after - before) / before * 100;
+    }
+
+    private record Result(String mode, List<Long> latencies, long errors, double seconds) {
+
+        Result {
+            Collections.sort(latencies);
+        }
+
+        long requests() {
+            return latencies.size();
+        }
+
+        double throughput() {
+            return latencies.size() / seconds;
+        }
+
+        double percentile(int percentile) {
+            if (latencies.isEmpty()) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * latencies.size()) - 1;
+            return latencies.get(Math.max(index, 0)) / 1e6;
+        }
+    }
+}
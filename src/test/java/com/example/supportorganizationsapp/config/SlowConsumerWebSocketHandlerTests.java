@@ -0,0 +1,125 @@
+package com.example.supportorganizationsapp.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator.OverflowStrategy;
+import org.springframework.web.socket.messaging.StompSubProtocolHandler;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SlowConsumerWebSocketHandlerTests {
+
+    private static final String SESSION_ID = "slow-client";
+    private static final int BUFFER_SIZE_LIMIT = 1024;
+    private static final int MESSAGE_COUNT = 50;
+
+    private final List<String> delivered = new CopyOnWriteArrayList<>();
+    private final CountDownLatch firstSendStarted = new CountDownLatch(1);
+    private final CountDownLatch clientCatchesUp = new CountDownLatch(1);
+    private final Counter droppedSessions = Counter.builder("websocket.sessions.dropped").register(new SimpleMeterRegistry());
+
+    private WebSocketSession session;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(SESSION_ID);
+        when(session.isOpen()).thenReturn(true);
+        when(session.getAttributes()).thenReturn(new HashMap<>());
+        when(session.getTextMessageSizeLimit()).thenReturn(64 * 1024);
+        // The first frame hangs in the socket write, as it does for a client that stopped reading.
+        doAnswer(invocation -> {
+            if (firstSendStarted.getCount() > 0) {
+                firstSendStarted.countDown();
+                clientCatchesUp.await(5, TimeUnit.SECONDS);
+            }
+            delivered.add(((TextMessage) invocation.getArgument(0)).getPayload());
+            return null;
+        }).when(session).sendMessage(any());
+    }
+
+    @AfterEach
+    void release() {
+        clientCatchesUp.countDown();
+    }
+
+    @Test
+    void dropStrategyKeepsSessionAndDeliversNewestMessages() throws Exception {
+        SlowConsumerWebSocketHandler handler = connect(OverflowStrategy.DROP);
+
+        flood(handler);
+
+        verify(session, never()).close(any());
+        String last = "message-" + (MESSAGE_COUNT - 1);
+        assertTrue(delivered.stream().anyMatch(frame -> frame.contains(last)), "The newest message was not delivered");
+        assertTrue(delivered.size() < MESSAGE_COUNT, "Nothing was dropped from the full send buffer");
+        assertEquals(0, droppedSessions.count());
+    }
+
+    @Test
+    void terminateStrategyClosesSlowSession() throws Exception {
+        SlowConsumerWebSocketHandler handler = connect(OverflowStrategy.TERMINATE);
+
+        flood(handler);
+
+        verify(session, timeout(5000)).close(CloseStatus.SESSION_NOT_RELIABLE);
+        handler.afterConnectionClosed(session, CloseStatus.SESSION_NOT_RELIABLE);
+        assertEquals(1, droppedSessions.count());
+    }
+
+    private SlowConsumerWebSocketHandler connect(OverflowStrategy overflowStrategy) throws Exception {
+        SlowConsumerWebSocketHandler handler = new SlowConsumerWebSocketHandler(
+                new ExecutorSubscribableChannel(), new ExecutorSubscribableChannel(), overflowStrategy, droppedSessions);
+        handler.addProtocolHandler(new StompSubProtocolHandler());
+        handler.setSendTimeLimit(60_000);
+        handler.setSendBufferSizeLimit(BUFFER_SIZE_LIMIT);
+        handler.afterConnectionEstablished(session);
+        return handler;
+    }
+
+    private void flood(SlowConsumerWebSocketHandler handler) throws Exception {
+        CompletableFuture<Void> blocked = CompletableFuture.runAsync(() -> handler.handleMessage(message(0)));
+        assertTrue(firstSendStarted.await(5, TimeUnit.SECONDS), "The first frame was never written");
+        for (int i = 1; i < MESSAGE_COUNT; i++) {
+            handler.handleMessage(message(i));
+        }
+        clientCatchesUp.countDown();
+        blocked.get(5, TimeUnit.SECONDS);
+    }
+
+    private Message<byte[]> message(int index) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        accessor.setSessionId(SESSION_ID);
+        accessor.setSubscriptionId("sub-0");
+        accessor.setDestination("/topic/chats/1");
+        String body = "{\"content\":\"message-" + index + "\",\"padding\":\"" + "x".repeat(100) + "\"}";
+        return MessageBuilder.createMessage(body.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+}
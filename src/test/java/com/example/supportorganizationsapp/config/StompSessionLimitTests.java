@@ -0,0 +1,75 @@
+package com.example.supportorganizationsapp.config;
+
+import com.example.supportorganizationsapp.models.User;
+import com.example.supportorganizationsapp.repository.ChatRepository;
+import com.example.supportorganizationsapp.service.UserService;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StompSessionLimitTests {
+
+    private static final String TOKEN = "Bearer token";
+    private static final int MAX_SESSIONS = 2;
+
+    private final MessageChannel channel = mock(MessageChannel.class);
+
+    private StompAuthorizationInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        TokenProvider tokenProvider = mock(TokenProvider.class);
+        Claims claims = mock(Claims.class);
+        when(claims.get(JwtConstants.EMAIL)).thenReturn("passenger@example.com");
+        when(claims.get(JwtConstants.AUTHORITIES)).thenReturn("");
+        when(tokenProvider.getClaimsFromToken(TOKEN)).thenReturn(claims);
+
+        User user = User.builder().email("passenger@example.com").build();
+        user.setId(1L);
+        UserService userService = mock(UserService.class);
+        when(userService.findProfileByEmail(anyString())).thenReturn(user);
+
+        interceptor = new StompAuthorizationInterceptor(tokenProvider, userService, mock(ChatRepository.class),
+                MAX_SESSIONS);
+    }
+
+    @Test
+    void connectPastTheCapIsRefusedUntilASessionCloses() {
+        assertNotNull(interceptor.preSend(connect("first"), channel));
+        assertNotNull(interceptor.preSend(connect("second"), channel));
+
+        assertThrows(MessageDeliveryException.class, () -> interceptor.preSend(connect("third"), channel));
+
+        interceptor.onSessionDisconnect(new SessionDisconnectEvent(this, disconnect("first"), "first",
+                CloseStatus.NORMAL));
+        assertNotNull(interceptor.preSend(connect("third"), channel));
+    }
+
+    private static Message<byte[]> connect(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setSessionId(sessionId);
+        accessor.setNativeHeader(JwtConstants.TOKEN_HEADER, TOKEN);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static Message<byte[]> disconnect(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        accessor.setSessionId(sessionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}